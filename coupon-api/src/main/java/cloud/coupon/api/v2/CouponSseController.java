@@ -1,11 +1,19 @@
 package cloud.coupon.api.v2;
 
+import cloud.coupon.sse.SseConnectionRegistry;
 import cloud.coupon.sse.SseEmitterManager;
+import cloud.coupon.sse.StreamTokenService;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -14,10 +22,39 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class CouponSseController {
 
+    private static final String LONG_POLL_URL = "/api/v2/coupons/status/%s/wait";
+
     private final SseEmitterManager sseEmitterManager;
+    private final SseConnectionRegistry connectionRegistry;
+    private final StreamTokenService streamTokenService;
 
     @GetMapping(value = "/subscribe/{ticketId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@PathVariable String ticketId) {
-        return sseEmitterManager.subscribe(ticketId);
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable String ticketId) {
+        return sseEmitterManager.subscribe(ticketId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> overCapacity(LONG_POLL_URL.formatted(ticketId)));
+    }
+
+    // 사용자 통합 스트림: 진행 중인 ticket + 연결 이후 발급되는 ticket 결과를 연결 1개로 수신
+    // 사용자는 발급 접수 응답의 streamToken으로 확인한다 (EventSource는 헤더를 붙일 수 없어 query로 받는다)
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeUser(@RequestParam String token,
+                                                    @RequestParam(name = "tickets", required = false) List<String> ticketIds) {
+        Optional<String> userId = streamTokenService.verify(token);
+        if (userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return sseEmitterManager.subscribeUser(userId.get(),
+                        ticketIds != null ? ticketIds.stream().distinct().toList() : List.of())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> overCapacity("/api/v2/coupons/status:batch"));
+    }
+
+    // 연결 상한 초과: 본문 없이 503 + Retry-After, 대체 조회 경로는 Link 헤더로 안내
+    private ResponseEntity<SseEmitter> overCapacity(String fallbackUrl) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(connectionRegistry.getRetryAfterSeconds()))
+                .header(HttpHeaders.LINK, "<" + fallbackUrl + ">; rel=\"alternate\"")
+                .build();
     }
-}
\ No newline at end of file
+}
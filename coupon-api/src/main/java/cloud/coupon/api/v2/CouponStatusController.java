@@ -1,25 +1,46 @@
 package cloud.coupon.api.v2;
 
+import cloud.coupon.domain.coupon.dto.request.TicketBatchStatusRequest;
+import cloud.coupon.domain.coupon.dto.response.TicketBatchStatusResponse;
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
-import cloud.coupon.infra.redis.service.RedisTicketService;
+import cloud.coupon.service.TicketQueryService;
+import cloud.coupon.sse.TicketLongPollManager;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/v2/coupons")
 @RequiredArgsConstructor
 public class CouponStatusController {
 
-    private final RedisTicketService redisTicketService;
+    private final TicketQueryService ticketQueryService;
+    private final TicketLongPollManager ticketLongPollManager;
 
     @GetMapping("/status/{ticketId}")
     public ResponseEntity<TicketResponse> getStatus(@PathVariable String ticketId) {
-        return redisTicketService.getTicket(ticketId)
+        return ticketQueryService.getTicket(ticketId)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    // long-poll: 완료되거나 waitMs(최대 30초)가 지나면 응답 — 대기 후에도 PENDING이면 다시 요청
+    @GetMapping("/status/{ticketId}/wait")
+    public DeferredResult<ResponseEntity<TicketResponse>> awaitStatus(@PathVariable String ticketId,
+                                                                      @RequestParam(defaultValue = "25000") long waitMs) {
+        return ticketLongPollManager.await(ticketId, waitMs);
+    }
+
+    @PostMapping("/status:batch")
+    public ResponseEntity<TicketBatchStatusResponse> getStatuses(@Valid @RequestBody TicketBatchStatusRequest request) {
+        return ResponseEntity.ok(ticketQueryService.getTickets(request.ticketIds()));
+    }
 }
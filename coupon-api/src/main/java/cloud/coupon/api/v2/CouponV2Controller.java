@@ -3,6 +3,7 @@ package cloud.coupon.api.v2;
 import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
 import cloud.coupon.service.CouponIssueProducer;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,8 +21,10 @@ public class CouponV2Controller {
     private final CouponIssueProducer couponIssueProducer;
 
     @PostMapping("/issue")
-    public ResponseEntity<TicketResponse> issueCoupon(@Valid @RequestBody CouponIssueRequest request) {
-        TicketResponse ticket = couponIssueProducer.issue(request);
+    public ResponseEntity<TicketResponse> issueCoupon(@Valid @RequestBody CouponIssueRequest request,
+                                                      HttpServletRequest servletRequest) {
+        CouponIssueRequest issueRequest = request.withRemoteAddrIfIpMissing(servletRequest.getRemoteAddr());
+        TicketResponse ticket = couponIssueProducer.issue(issueRequest);
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
     }
 }
@@ -0,0 +1,38 @@
+package cloud.coupon.api.v2;
+
+import cloud.coupon.domain.coupon.dto.request.WaitingRoomEnterRequest;
+import cloud.coupon.domain.coupon.dto.response.WaitingRoomResponse;
+import cloud.coupon.service.WaitingRoomService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대기열: enter로 순번을 받고 status를 estimatedWaitMs 간격으로 조회, ADMITTED가 되면 /issue 호출.
+ * coupon.waiting-room.enabled=true면 입장 허가 없이 /issue는 403.
+ */
+@RestController
+@RequestMapping("/api/v2/coupons/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping
+    public ResponseEntity<WaitingRoomResponse> enter(@Valid @RequestBody WaitingRoomEnterRequest request) {
+        return ResponseEntity.ok(waitingRoomService.enter(request.code(), request.userId()));
+    }
+
+    @GetMapping("/{code}/users/{userId}")
+    public ResponseEntity<WaitingRoomResponse> getStatus(@PathVariable String code, @PathVariable Long userId) {
+        return waitingRoomService.getStatus(code, userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,34 @@
+package cloud.coupon.api.v3;
+
+import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.service.CouponIssueProducer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 비동기 접수: 응답 계약은 v2와 동일하고, Redis 응답 대기 중 servlet 스레드를 점유하지 않는다.
+ */
+@RestController
+@RequestMapping("/api/v3/coupons")
+@RequiredArgsConstructor
+public class CouponV3Controller {
+
+    private final CouponIssueProducer couponIssueProducer;
+
+    @PostMapping("/issue")
+    public CompletableFuture<ResponseEntity<TicketResponse>> issueCoupon(@Valid @RequestBody CouponIssueRequest request,
+                                                                         HttpServletRequest servletRequest) {
+        CouponIssueRequest issueRequest = request.withRemoteAddrIfIpMissing(servletRequest.getRemoteAddr());
+        return couponIssueProducer.issueAsync(issueRequest)
+                .thenApply(ticket -> ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket));
+    }
+}
@@ -0,0 +1,49 @@
+package cloud.coupon.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "coupon.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = false;
+    // 쿠폰별 예산이 없을 때 적용
+    @Valid
+    private Budget defaultBudget = new Budget();
+    // 쿠폰 코드 → 예산 (인기 쿠폰만 따로 조일 때)
+    private Map<String, @Valid Budget> coupons = new HashMap<>();
+    // 로컬 tier bucket 수 상한 (사용자/IP 키 기준)
+    @Positive
+    private long localMaxBuckets = 100_000;
+
+    public Budget budgetOf(String couponCode) {
+        return coupons.getOrDefault(couponCode, defaultBudget);
+    }
+
+    /**
+     * token bucket 예산: capacity만큼 연속 요청 허용, 이후 초당 refill개씩 회복
+     * refill이 0이면 bucket이 회복되지 않고 Redis 만료 시간도 무한이 되므로 양수만 허용 (기동 시 검증)
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+        @Positive
+        private int userCapacity = 5;
+        @Positive
+        private double userRefillPerSecond = 1;
+        @Positive
+        private int ipCapacity = 50;
+        @Positive
+        private double ipRefillPerSecond = 20;
+    }
+}
@@ -0,0 +1,27 @@
+package cloud.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coupon.sse")
+public class SseProperties {
+    // 노드당 동시 SSE 연결 상한 (초과 시 503 + long-poll 안내)
+    private int maxConnections = 10_000;
+    // 사용자당 동시 SSE 연결 상한 (ticket 발급 요청자 / 스트림 토큰 사용자 기준)
+    private int maxConnectionsPerUser = 3;
+    // 거절 응답의 Retry-After (초)
+    private int retryAfterSeconds = 2;
+    // comment heartbeat 주기 — 끊긴 연결을 timeout 전에 정리
+    private long heartbeatIntervalMs = 10_000;
+    // heartbeat 전송 스레드 수 — 쓰기가 막힌 peer 하나가 나머지 연결의 heartbeat를 붙잡지 않게
+    private int heartbeatThreads = 4;
+    // 사용자 통합 스트림 토큰 서명 키 — 모든 API 노드가 같은 값이어야 한다 (비어 있으면 노드별 임의 키: 단일 노드 전용)
+    private String streamTokenSecret = "";
+    // 발급 접수 응답의 스트림 토큰 유효 시간
+    private long streamTokenTtlMs = 1_800_000;
+}
@@ -0,0 +1,44 @@
+package cloud.coupon.config;
+
+import cloud.coupon.domain.coupon.util.TicketIdGenerator;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import cloud.coupon.sse.NodeIdentity;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+@Slf4j
+@Configuration
+public class TicketIdConfig {
+
+    /**
+     * coupon.ticket.worker-id 미설정(-1) 시 Redis lease로 비어 있는 worker id를 빌린다.
+     * lease를 쓰면 매 발급마다 lease 유효성을 확인한다 (만료 시 503, 재획득 시 새 id).
+     * StatefulSet 등 노드 번호가 고정된 배포에서는 명시 설정을 권장.
+     */
+    @Bean
+    public TicketIdGenerator ticketIdGenerator(@Value("${coupon.ticket.worker-id:-1}") int workerId,
+                                               ObjectProvider<TicketWorkerIdLease> workerIdLease) {
+        if (workerId >= 0) {
+            log.info("ticketId worker id: {}", workerId);
+            return new TicketIdGenerator(workerId);
+        }
+        TicketWorkerIdLease lease = workerIdLease.getObject();
+        log.info("ticketId worker id: {} (lease)", lease.getWorkerId());
+        return new TicketIdGenerator(lease);
+    }
+
+    // worker id를 명시하지 않은 경우에만 생성된다 (ticketIdGenerator가 getObject로 요청)
+    @Lazy
+    @Bean(destroyMethod = "close")
+    public TicketWorkerIdLease ticketWorkerIdLease(RedisTicketService redisTicketService,
+                                                   NodeIdentity nodeIdentity,
+                                                   @Value("${coupon.ticket.worker-lease-ttl-ms:30000}") long leaseTtlMs) {
+        return TicketWorkerIdLease.acquire(redisTicketService, TicketIdGenerator.MAX_WORKER_ID + 1,
+                nodeIdentity.getNodeId(), Duration.ofMillis(leaseTtlMs));
+    }
+}
@@ -0,0 +1,112 @@
+package cloud.coupon.config;
+
+import cloud.coupon.domain.coupon.util.TicketIdGenerator.WorkerIdSource;
+import cloud.coupon.global.error.exception.ticket.TicketIdUnavailableException;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis에서 빌린 ticketId worker id. TTL의 1/3마다 연장하고 종료 시 반납한다.
+ * 노드가 죽으면 lease가 TTL 뒤 풀려 다른 노드가 같은 id를 쓸 수 있다.
+ *
+ * 마지막 연장 요청 시각 + TTL까지만 유효하다 — Redis 쪽 키보다 먼저 만료되므로 그 뒤에는 발급하지 않는다(503).
+ * 연장 결과 다른 노드가 이미 가져갔으면 즉시 발급을 막고 비어 있는 id를 다시 빌린다.
+ */
+@Slf4j
+public class TicketWorkerIdLease implements WorkerIdSource, AutoCloseable {
+
+    private final RedisTicketService redisTicketService;
+    private final int workerCount;
+    private final String owner;
+    private final Duration ttl;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ticket-worker-lease");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // workerId를 먼저 쓰고 validUntilNanos를 쓴다 — 유효 기간을 본 스레드는 그에 맞는 worker id를 본다
+    private volatile int workerId;
+    private volatile long validUntilNanos;
+
+    TicketWorkerIdLease(RedisTicketService redisTicketService, int workerCount, String owner, Duration ttl,
+                        int workerId, long requestedAtNanos) {
+        this.redisTicketService = redisTicketService;
+        this.workerCount = workerCount;
+        this.owner = owner;
+        this.ttl = ttl;
+        this.workerId = workerId;
+        this.validUntilNanos = requestedAtNanos + ttl.toNanos();
+        long period = Math.max(1, ttl.toMillis() / 3);
+        renewer.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 비어 있는 worker id를 빌린다. 모든 id가 사용 중이면 IllegalStateException — 중복 ID 위험을 안고 기동하지 않는다.
+     */
+    public static TicketWorkerIdLease acquire(RedisTicketService redisTicketService, int workerCount,
+                                              String nodeId, Duration ttl) {
+        String owner = nodeId + ":" + UUID.randomUUID();
+        long requestedAt = System.nanoTime();
+        int workerId = redisTicketService.acquireWorkerId(workerCount, owner, ttl)
+                .orElseThrow(() -> new IllegalStateException(
+                        "사용 가능한 ticketId worker id가 없습니다 (0~" + (workerCount - 1) + " 모두 사용 중)"));
+        return new TicketWorkerIdLease(redisTicketService, workerCount, owner, ttl, workerId, requestedAt);
+    }
+
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    @Override
+    public int currentWorkerId() {
+        if (System.nanoTime() - validUntilNanos >= 0) {
+            throw new TicketIdUnavailableException("ticketId worker id lease가 만료되어 접수할 수 없습니다");
+        }
+        return workerId;
+    }
+
+    void renew() {
+        long requestedAt = System.nanoTime();
+        try {
+            if (redisTicketService.renewWorkerId(workerId, owner, ttl)) {
+                validUntilNanos = requestedAt + ttl.toNanos();
+                return;
+            }
+            validUntilNanos = requestedAt;
+            log.error("ticketId worker id {} lease를 잃었습니다 — 발급을 멈추고 다른 id를 빌립니다", workerId);
+            reacquire();
+        } catch (Exception e) {
+            log.warn("ticketId worker id {} lease 연장 실패: {}", workerId, e.getMessage());
+        }
+    }
+
+    // 실패하면 발급이 막힌 채로 남고 다음 연장 주기에 다시 시도한다 (renewWorkerId가 false를 돌려준다)
+    private void reacquire() {
+        long requestedAt = System.nanoTime();
+        OptionalInt acquired = redisTicketService.acquireWorkerId(workerCount, owner, ttl);
+        if (acquired.isEmpty()) {
+            log.error("사용 가능한 ticketId worker id가 없습니다 — 발급 중단 상태 유지");
+            return;
+        }
+        workerId = acquired.getAsInt();
+        validUntilNanos = requestedAt + ttl.toNanos();
+        log.info("ticketId worker id 재획득: {}", workerId);
+    }
+
+    @Override
+    public void close() {
+        renewer.shutdownNow();
+        try {
+            redisTicketService.releaseWorkerId(workerId, owner);
+        } catch (Exception e) {
+            log.warn("ticketId worker id {} lease 반납 실패 (TTL 후 만료): {}", workerId, e.getMessage());
+        }
+    }
+}
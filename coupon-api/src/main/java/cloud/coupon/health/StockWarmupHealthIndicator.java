@@ -0,0 +1,32 @@
+package cloud.coupon.health;
+
+import cloud.coupon.infra.redis.service.StockWarmupService;
+import cloud.coupon.infra.redis.service.StockWarmupService.State;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * readiness 그룹에 포함 — Redis 재고 warm-up이 끝나기 전에는 트래픽을 받지 않는다.
+ */
+@Component("stockWarmup")
+@RequiredArgsConstructor
+public class StockWarmupHealthIndicator implements HealthIndicator {
+
+    private final StockWarmupService stockWarmupService;
+
+    @Override
+    public Health health() {
+        State state = stockWarmupService.getState();
+        Health.Builder builder = (state == State.COMPLETED || state == State.DISABLED)
+                ? Health.up()
+                : Health.down();
+        builder.withDetail("state", state)
+                .withDetail("warmedCoupons", stockWarmupService.getWarmedCount());
+        if (state == State.RETRYING) {
+            builder.withDetail("error", stockWarmupService.getLastError());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,128 @@
+package cloud.coupon.ratelimit;
+
+import cloud.coupon.config.RateLimitProperties;
+import cloud.coupon.config.RateLimitProperties.Budget;
+import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.global.error.exception.ratelimit.RateLimitExceededException;
+import cloud.coupon.infra.redis.service.RedisRateLimitService;
+import cloud.coupon.infra.redis.service.RedisRateLimitService.Bucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발급 접수 앞단의 사용자/IP token bucket (coupon.rate-limit.enabled).
+ * 로컬 tier → Redis tier 순으로 확인하고, 둘 다 통과해야 발급 Lua를 실행한다.
+ * 로컬 bucket은 노드 간 전역 예산과 같은 크기라 정상 사용자를 더 막지 않고,
+ * 한 노드에 반복 요청을 쏟는 클라이언트는 Redis를 건드리기 전에 걸러진다.
+ */
+@Slf4j
+@Component
+public class IssueRateLimiter {
+
+    private static final String[] LIMIT_NAMES = {"user", "ip"};
+
+    private final RateLimitProperties properties;
+    private final RedisRateLimitService redisRateLimitService;
+    private final Cache<String, LocalTokenBucket> localBuckets;
+    private final Counter[] rejectedLocally = new Counter[LIMIT_NAMES.length];
+    private final Counter[] rejectedByRedis = new Counter[LIMIT_NAMES.length];
+
+    public IssueRateLimiter(RateLimitProperties properties,
+                            RedisRateLimitService redisRateLimitService,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisRateLimitService = redisRateLimitService;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxBuckets())
+                .expireAfterAccess(Duration.ofMinutes(1))
+                .build();
+        for (int i = 0; i < LIMIT_NAMES.length; i++) {
+            rejectedLocally[i] = Counter.builder("coupon.ratelimit.rejected")
+                    .tag("tier", "local").tag("limit", LIMIT_NAMES[i]).register(meterRegistry);
+            rejectedByRedis[i] = Counter.builder("coupon.ratelimit.rejected")
+                    .tag("tier", "redis").tag("limit", LIMIT_NAMES[i]).register(meterRegistry);
+        }
+    }
+
+    /**
+     * 예산 초과 시 RateLimitExceededException (429)
+     */
+    public void acquire(CouponIssueRequest request) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Bucket> buckets = buckets(request);
+        acquireLocally(request, buckets);
+        checkRedisResult(request, buckets, redisRateLimitService.tryAcquire(request.code(), buckets));
+    }
+
+    /**
+     * acquire와 같은 판정을 Redis tier만 reactive 커넥션으로 수행. 초과 시 RateLimitExceededException으로 완료
+     */
+    public CompletableFuture<Void> acquireAsync(CouponIssueRequest request) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Bucket> buckets = buckets(request);
+        try {
+            acquireLocally(request, buckets);
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return redisRateLimitService.tryAcquireAsync(request.code(), buckets)
+                .thenAccept(result -> checkRedisResult(request, buckets, result));
+    }
+
+    // 순서: user → ip. 컨트롤러가 requestIp를 접속 주소로 채우므로 ip가 빠지는 것은 내부 호출뿐
+    // 쿠폰 코드는 Redis에서 group(hash tag)으로 붙는다
+    private List<Bucket> buckets(CouponIssueRequest request) {
+        Budget budget = properties.budgetOf(request.code());
+        List<Bucket> buckets = new ArrayList<>(2);
+        buckets.add(new Bucket("user:" + request.userId(),
+                budget.getUserCapacity(), budget.getUserRefillPerSecond()));
+        if (request.requestIp() != null && !request.requestIp().isBlank()) {
+            buckets.add(new Bucket("ip:" + request.requestIp(),
+                    budget.getIpCapacity(), budget.getIpRefillPerSecond()));
+        }
+        return buckets;
+    }
+
+    // 두 bucket을 모두 확인한 뒤 함께 차감한다 — IP 한도로 거절된 요청이 사용자 토큰을 쓰지 않게
+    private void acquireLocally(CouponIssueRequest request, List<Bucket> buckets) {
+        long now = System.nanoTime();
+        List<LocalTokenBucket> locals = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            locals.add(localBuckets.get(request.code() + ":" + bucket.key(),
+                    key -> new LocalTokenBucket(bucket.capacity(), bucket.refillPerSecond(), now)));
+        }
+        int rejected = LocalTokenBucket.tryAcquireAll(locals, now);
+        if (rejected >= 0) {
+            rejectedLocally[rejected].increment();
+            throw rejection(request, buckets.get(rejected), rejected);
+        }
+    }
+
+    private void checkRedisResult(CouponIssueRequest request, List<Bucket> buckets, long result) {
+        if (result <= 0) {
+            return;
+        }
+        int index = (int) result - 1;
+        rejectedByRedis[index].increment();
+        throw rejection(request, buckets.get(index), index);
+    }
+
+    private RateLimitExceededException rejection(CouponIssueRequest request, Bucket bucket, int index) {
+        log.debug("[{}]: 요청 한도 초과 | limit: {} | userId: {} | ip: {}",
+                request.code(), LIMIT_NAMES[index], request.userId(), request.requestIp());
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(1 / bucket.refillPerSecond()));
+        return new RateLimitExceededException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+}
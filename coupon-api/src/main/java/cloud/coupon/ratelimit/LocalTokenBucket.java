@@ -0,0 +1,64 @@
+package cloud.coupon.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 로컬 token bucket. 같은 예산의 Redis bucket보다 먼저 확인해
+ * 한 노드에 몰아치는 반복 요청을 Redis 왕복 없이 걸러낸다.
+ */
+class LocalTokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double tokens;
+    private long refilledAt;
+
+    LocalTokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        return tryAcquireAll(List.of(this), nowNanos) < 0;
+    }
+
+    /**
+     * 모든 bucket에 토큰이 있을 때만 하나씩 차감 (Redis tier와 같은 both-or-neither).
+     * lock은 목록 순서로 잡으므로 호출자는 항상 같은 종류 순서(user → ip)로 넘긴다.
+     * 반환값: 토큰이 부족한 첫 bucket의 인덱스, 모두 차감했으면 -1
+     */
+    static int tryAcquireAll(List<LocalTokenBucket> buckets, long nowNanos) {
+        int locked = 0;
+        try {
+            for (LocalTokenBucket bucket : buckets) {
+                bucket.lock.lock();
+                locked++;
+            }
+            for (int i = 0; i < buckets.size(); i++) {
+                if (buckets.get(i).refill(nowNanos) < 1) {
+                    return i;
+                }
+            }
+            for (LocalTokenBucket bucket : buckets) {
+                bucket.tokens -= 1;
+            }
+            return -1;
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                buckets.get(i).lock.unlock();
+            }
+        }
+    }
+
+    // lock을 잡은 상태에서만 호출
+    private double refill(long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - refilledAt);
+        tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+        refilledAt = nowNanos;
+        return tokens;
+    }
+}
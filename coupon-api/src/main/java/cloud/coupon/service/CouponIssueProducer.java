@@ -3,13 +3,17 @@ package cloud.coupon.service;
 import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
 import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import cloud.coupon.domain.coupon.util.TicketIdGenerator;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
 import cloud.coupon.global.error.exception.coupon.CouponOutOfStockException;
 import cloud.coupon.global.error.exception.coupon.DuplicateCouponException;
+import cloud.coupon.global.error.exception.coupon.WaitingRoomAdmissionRequiredException;
 import cloud.coupon.infra.redis.service.RedisStockService;
 import cloud.coupon.infra.redis.service.RedisTicketService;
+import cloud.coupon.ratelimit.IssueRateLimiter;
+import cloud.coupon.sse.StreamTokenService;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,22 +27,76 @@ public class CouponIssueProducer {
     private static final long RESULT_INFLIGHT = -4;
     private static final long RESULT_NOT_FOUND = -2;
     private static final long RESULT_OUT_OF_STOCK = -1;
+    private static final long RESULT_NOT_ADMITTED = -5;
 
     private final RedisStockService redisStockService;
     private final RedisTicketService redisTicketService;
+    private final TicketIdGenerator ticketIdGenerator;
+    private final IssueRateLimiter issueRateLimiter;
+    private final StreamTokenService streamTokenService;
 
     public TicketResponse issue(CouponIssueRequest request) {
-        String ticketId = "tkt_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
-        String requestTime = LocalDateTime.now().toString();
+        issueRateLimiter.acquire(request);
+        String ticketId = newTicketId();
 
         long result = redisStockService.issueAtomically(
                 request.code(),
                 String.valueOf(request.userId()),
                 ticketId,
                 request.requestIp() != null ? request.requestIp() : "",
-                requestTime
+                LocalDateTime.now().toString()
         );
 
+        TicketResponse rejected = rejectedResponse(request, result);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        String userId = String.valueOf(request.userId());
+        TicketResponse ticket = TicketResponse.accepted(ticketId, streamTokenService.issue(userId));
+        redisTicketService.saveTicket(ticketId, ticket, userId);
+        logAccepted(request, ticketId, result);
+        return ticket;
+    }
+
+    /**
+     * issue와 같은 Lua·응답 계약을 Lettuce reactive 커넥션으로 수행.
+     * Redis 응답을 기다리는 동안 요청 스레드를 반환하므로 동시 접수 수가 스레드 수에 묶이지 않는다.
+     * 거절은 issue와 같은 예외로 완료된다.
+     */
+    public CompletableFuture<TicketResponse> issueAsync(CouponIssueRequest request) {
+        String ticketId = newTicketId();
+
+        return issueRateLimiter.acquireAsync(request)
+                .thenCompose(allowed -> redisStockService.issueAtomicallyAsync(
+                        request.code(),
+                        String.valueOf(request.userId()),
+                        ticketId,
+                        request.requestIp() != null ? request.requestIp() : "",
+                        LocalDateTime.now().toString()))
+                .thenCompose(result -> {
+                    TicketResponse rejected = rejectedResponse(request, result);
+                    if (rejected != null) {
+                        return CompletableFuture.completedFuture(rejected);
+                    }
+                    String userId = String.valueOf(request.userId());
+                    TicketResponse ticket = TicketResponse.accepted(ticketId, streamTokenService.issue(userId));
+                    return redisTicketService.saveTicketAsync(ticketId, ticket, userId)
+                            .thenApply(saved -> {
+                                logAccepted(request, ticketId, result);
+                                return ticket;
+                            });
+                });
+    }
+
+    private String newTicketId() {
+        return ticketIdGenerator.nextTicketId();
+    }
+
+    /**
+     * Lua 결과 해석. 접수 성공(>= 0)이면 null, 처리 중 중복이면 PENDING 응답, 그 외에는 예외.
+     */
+    private TicketResponse rejectedResponse(CouponIssueRequest request, long result) {
         if (result == RESULT_ALREADY_ISSUED) {
             throw new DuplicateCouponException("이미 발급된 쿠폰입니다.");
         }
@@ -55,13 +113,14 @@ public class CouponIssueProducer {
         if (result == RESULT_OUT_OF_STOCK) {
             throw new CouponOutOfStockException("쿠폰이 모두 소진되었습니다.");
         }
+        if (result == RESULT_NOT_ADMITTED) {
+            throw new WaitingRoomAdmissionRequiredException("대기열 입장 후 발급할 수 있습니다.");
+        }
+        return null;
+    }
 
-        TicketResponse ticket = TicketResponse.pending(ticketId);
-        redisTicketService.saveTicket(ticketId, ticket);
-
+    private void logAccepted(CouponIssueRequest request, String ticketId, long remainStock) {
         log.info("[{}]: 발급 접수 완료 | userId: {} | ticketId: {} | 남은재고: {}",
-                request.code(), request.userId(), ticketId, result);
-
-        return ticket;
+                request.code(), request.userId(), ticketId, remainStock);
     }
 }
@@ -0,0 +1,150 @@
+package cloud.coupon.service;
+
+import cloud.coupon.domain.coupon.dto.response.TicketBatchStatusResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy.VarExpiration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * ticket 조회. COMPLETED/FAILED는 더 이상 바뀌지 않으므로 노드 로컬 캐시에서 응답한다.
+ * 캐시는 조회 결과와 이 노드로 발행된 Pub/Sub 결과로 채우고, 항목마다 Redis ticket 키가 만료되는 시점에 만료한다.
+ * 조회 결과는 PTTL로 남은 TTL을 읽고, Pub/Sub 결과는 방금 저장되어 TTL 전체가 남아 있다.
+ * PENDING은 캐시하지 않는다.
+ */
+@Slf4j
+@Service
+public class TicketQueryService {
+
+    private final RedisTicketService redisTicketService;
+    private final Cache<String, TicketResponse> terminalTickets;
+    private final VarExpiration<String, TicketResponse> terminalTicketExpiration;
+    private final Duration ticketTtl;
+
+    public TicketQueryService(RedisTicketService redisTicketService,
+                              MeterRegistry meterRegistry,
+                              @Value("${coupon.ticket.local-cache.max-size:100000}") long maxSize) {
+        this.redisTicketService = redisTicketService;
+        this.ticketTtl = redisTicketService.getTicketTtl();
+        // 항목별 만료 시간은 put 시 지정한다. 읽기·갱신으로는 만료 시점이 바뀌지 않는다
+        this.terminalTickets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, TicketResponse>() {
+                    @Override
+                    public long expireAfterCreate(String ticketId, TicketResponse ticket, long currentTime) {
+                        return ticketTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String ticketId, TicketResponse ticket,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String ticketId, TicketResponse ticket,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.terminalTicketExpiration = terminalTickets.policy().expireVariably().orElseThrow();
+        CaffeineCacheMetrics.monitor(meterRegistry, terminalTickets, "ticket.terminal");
+    }
+
+    public Optional<TicketResponse> getTicket(String ticketId) {
+        TicketResponse cached = terminalTickets.getIfPresent(ticketId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<TicketResponse> ticket = redisTicketService.getTicket(ticketId);
+        ticket.ifPresent(found -> cacheUntilRedisExpiry(List.of(found)));
+        return ticket;
+    }
+
+    /**
+     * 일괄 조회: 캐시에 없는 ticket만 pipeline 1회로 Redis에서 읽는다.
+     */
+    public TicketBatchStatusResponse getTickets(List<String> ticketIds) {
+        List<String> distinctIds = ticketIds.stream().distinct().toList();
+        Map<String, TicketResponse> found = new HashMap<>(terminalTickets.getAllPresent(distinctIds));
+
+        List<String> misses = distinctIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            Map<String, TicketResponse> loaded = redisTicketService.getTickets(misses);
+            cacheUntilRedisExpiry(loaded.values());
+            found.putAll(loaded);
+        }
+
+        List<TicketResponse> tickets = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        for (String ticketId : distinctIds) {
+            TicketResponse ticket = found.get(ticketId);
+            if (ticket != null) {
+                tickets.add(ticket);
+            } else {
+                notFound.add(ticketId);
+            }
+        }
+        return new TicketBatchStatusResponse(tickets, notFound);
+    }
+
+    public Optional<String> getTicketOwner(String ticketId) {
+        return redisTicketService.getTicketOwner(ticketId);
+    }
+
+    /**
+     * ticket 발급 요청자 조회 (캐시하지 않는다). 반환 맵에 없는 ticket은 소유자를 알 수 없다.
+     */
+    public Map<String, String> getTicketOwners(List<String> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Map.of();
+        }
+        return redisTicketService.getTicketOwners(ticketIds);
+    }
+
+    /**
+     * 방금 저장·발행된 결과 캐시 (Redis 키 TTL이 막 갱신되었으므로 TTL 전체).
+     */
+    public void cacheIfTerminal(TicketResponse ticket) {
+        if (isTerminal(ticket.getStatus())) {
+            terminalTicketExpiration.put(ticket.getTicketId(), ticket, ticketTtl);
+        }
+    }
+
+    // 조회한 terminal ticket은 Redis 키의 남은 TTL만큼만 캐시한다 (ticket당 노드별 첫 조회에만 PTTL 1회)
+    private void cacheUntilRedisExpiry(Collection<TicketResponse> tickets) {
+        List<TicketResponse> terminal = tickets.stream().filter(ticket -> isTerminal(ticket.getStatus())).toList();
+        if (terminal.isEmpty()) {
+            return;
+        }
+        Map<String, Duration> remaining = redisTicketService.getRemainingTtls(
+                terminal.stream().map(TicketResponse::getTicketId).toList());
+        for (TicketResponse ticket : terminal) {
+            Duration ttl = remaining.get(ticket.getTicketId());
+            if (ttl != null) {
+                terminalTicketExpiration.put(ticket.getTicketId(), ticket, ttl);
+            }
+        }
+    }
+
+    private boolean isTerminal(TicketStatus status) {
+        return status == TicketStatus.COMPLETED || status == TicketStatus.FAILED;
+    }
+}
@@ -0,0 +1,51 @@
+package cloud.coupon.service;
+
+import cloud.coupon.domain.coupon.dto.response.WaitingRoomResponse;
+import cloud.coupon.domain.coupon.dto.response.WaitingRoomStatus;
+import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
+import cloud.coupon.global.error.exception.coupon.CouponOutOfStockException;
+import cloud.coupon.global.error.exception.coupon.DuplicateCouponException;
+import cloud.coupon.infra.redis.service.RedisWaitingRoomService;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private final RedisWaitingRoomService redisWaitingRoomService;
+
+    public WaitingRoomResponse enter(String code, Long userId) {
+        long result = redisWaitingRoomService.enter(code, String.valueOf(userId));
+        return toResponse(code, userId, result);
+    }
+
+    /**
+     * 대기열에 없으면 empty (입장 허가 만료 포함 — 다시 enter)
+     */
+    public Optional<WaitingRoomResponse> getStatus(String code, Long userId) {
+        long result = redisWaitingRoomService.getPosition(code, String.valueOf(userId));
+        if (result == RedisWaitingRoomService.RESULT_NOT_WAITING) {
+            return Optional.empty();
+        }
+        return Optional.of(toResponse(code, userId, result));
+    }
+
+    private WaitingRoomResponse toResponse(String code, Long userId, long result) {
+        if (result == RedisWaitingRoomService.RESULT_ALREADY_ISSUED) {
+            throw new DuplicateCouponException("이미 발급된 쿠폰입니다.");
+        }
+        if (result == RedisWaitingRoomService.RESULT_NOT_FOUND) {
+            throw new CouponNotFoundException("존재하지 않는 쿠폰입니다.");
+        }
+        if (result == RedisWaitingRoomService.RESULT_OUT_OF_STOCK) {
+            throw new CouponOutOfStockException("쿠폰이 모두 소진되었습니다.");
+        }
+        if (result == RedisWaitingRoomService.ADMITTED) {
+            return new WaitingRoomResponse(code, userId, WaitingRoomStatus.ADMITTED, 0, 0);
+        }
+        return new WaitingRoomResponse(code, userId, WaitingRoomStatus.WAITING, result,
+                redisWaitingRoomService.estimateWaitMs(result));
+    }
+}
@@ -0,0 +1,34 @@
+package cloud.coupon.sse;
+
+import java.net.InetAddress;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결과 라우팅용 API 노드 식별자.
+ * coupon.node-id 미설정 시 hostname(k8s pod 이름) + 임의 접미사 — 재시작해도 이전 노드 채널과 겹치지 않는다.
+ */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity(@Value("${coupon.node-id:}") String configuredNodeId) {
+        this.nodeId = configuredNodeId.isBlank() ? generateNodeId() : configuredNodeId;
+        log.info("API node id: {}", nodeId);
+    }
+
+    private static String generateNodeId() {
+        String suffix = UUID.randomUUID().toString().substring(0, 6);
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + suffix;
+        } catch (Exception e) {
+            return "node-" + suffix;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cloud.coupon.sse;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 7 sharded Pub/Sub(SSUBSCRIBE) 구독기.
+ * RedisMessageListenerContainer는 SSUBSCRIBE를 지원하지 않아 Lettuce 전용 pub/sub 연결을 직접 연다.
+ * 연결은 구독 채널이 있을 때만 만들고, connection factory가 시작된 뒤(SmartLifecycle 마지막 phase)에 연다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedResultSubscriber implements SmartLifecycle {
+
+    // channel → payload 처리기
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+    private final LettuceConnectionFactory connectionFactory;
+    private volatile StatefulRedisPubSubConnection<String, String> connection;
+
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.put(channel, listener);
+        StatefulRedisPubSubConnection<String, String> current = connection;
+        if (current != null) {
+            current.sync().ssubscribe(channel);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (connection != null || listeners.isEmpty()) {
+            return;
+        }
+        StatefulRedisPubSubConnection<String, String> pubSub = connectPubSub(connectionFactory.getNativeClient());
+        pubSub.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void smessage(String shardChannel, String message) {
+                Consumer<String> listener = listeners.get(shardChannel);
+                if (listener != null) {
+                    listener.accept(message);
+                }
+            }
+        });
+        pubSub.sync().ssubscribe(listeners.keySet().toArray(String[]::new));
+        connection = pubSub;
+        log.info("sharded Pub/Sub 구독 시작: channels={}", listeners.keySet());
+    }
+
+    private StatefulRedisPubSubConnection<String, String> connectPubSub(AbstractRedisClient client) {
+        if (client instanceof RedisClusterClient clusterClient) {
+            return clusterClient.connectPubSub(StringCodec.UTF8);
+        }
+        return ((RedisClient) client).connectPubSub(StringCodec.UTF8);
+    }
+
+    @Override
+    public synchronized void stop() {
+        StatefulRedisPubSubConnection<String, String> current = connection;
+        connection = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return connection != null;
+    }
+}
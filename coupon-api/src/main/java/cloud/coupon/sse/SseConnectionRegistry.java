@@ -0,0 +1,164 @@
+package cloud.coupon.sse;
+
+import cloud.coupon.config.SseProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 대기 중인 SSE 연결의 예산 관리 + heartbeat.
+ * 노드/사용자 상한을 넘는 연결은 받지 않고(호출자가 503 응답), 살아 있는 연결에는 주기적으로
+ * comment를 보내 끊긴 peer를 timeout 전에 정리한다.
+ * heartbeat는 전용 스레드에서 돌린다 — 연결 수만큼의 blocking 전송이 공용 @Scheduled 스레드(대기열 wave, replica lag 감시)를
+ * 붙잡지 않게 하고, 전송은 heartbeat-threads개 스레드로 나눠 느린 peer 하나가 나머지를 막지 않게 한다.
+ */
+@Slf4j
+@Component
+public class SseConnectionRegistry {
+
+    private final SseProperties properties;
+    private final AtomicInteger active = new AtomicInteger();
+    private final ConcurrentHashMap<String, Integer> perUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SseEmitter, Boolean> emitters = new ConcurrentHashMap<>();
+    private final Counter rejectedByNode;
+    private final Counter rejectedByUser;
+    private final Timer registrationTimer;
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sse-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ExecutorService heartbeatSenders;
+    // 이전 주기에서 아직 끝나지 않은 전송 수
+    private final AtomicInteger heartbeatsInFlight = new AtomicInteger();
+
+    public SseConnectionRegistry(SseProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("coupon.sse.active", active, AtomicInteger::get)
+                .description("대기 중인 SSE 연결 수")
+                .register(meterRegistry);
+        this.rejectedByNode = Counter.builder("coupon.sse.rejected").tag("reason", "node").register(meterRegistry);
+        this.rejectedByUser = Counter.builder("coupon.sse.rejected").tag("reason", "user").register(meterRegistry);
+        this.registrationTimer = Timer.builder("coupon.sse.registration")
+                .description("SSE 구독 등록(노드 등록 + 재확인) 소요 시간")
+                .register(meterRegistry);
+        AtomicInteger senderIndex = new AtomicInteger();
+        this.heartbeatSenders = Executors.newFixedThreadPool(properties.getHeartbeatThreads(), r -> {
+            Thread t = new Thread(r, "sse-heartbeat-send-" + senderIndex.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    void startHeartbeats() {
+        long interval = properties.getHeartbeatIntervalMs();
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopHeartbeats() {
+        heartbeatScheduler.shutdownNow();
+        heartbeatSenders.shutdownNow();
+    }
+
+    /**
+     * 연결 예산 확보. 실패하면 false — 호출자는 emitter를 만들지 않고 503으로 응답한다.
+     * userId가 null이면 노드 상한만 적용.
+     */
+    public boolean tryAcquire(String userId) {
+        if (active.incrementAndGet() > properties.getMaxConnections()) {
+            active.decrementAndGet();
+            rejectedByNode.increment();
+            return false;
+        }
+        if (userId != null) {
+            AtomicBoolean accepted = new AtomicBoolean();
+            perUser.compute(userId, (key, count) -> {
+                int current = count != null ? count : 0;
+                if (current >= properties.getMaxConnectionsPerUser()) {
+                    return count;
+                }
+                accepted.set(true);
+                return current + 1;
+            });
+            if (!accepted.get()) {
+                active.decrementAndGet();
+                rejectedByUser.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 예산을 확보한 emitter를 heartbeat 대상으로 등록.
+     * 반환값: 예산 반환 동작 — 여러 번 호출해도 한 번만 반환되므로 완료/timeout/오류 콜백 모두에서 호출한다.
+     * (SseEmitter 콜백은 종류별로 하나만 유지되므로 여기서 직접 등록하지 않는다)
+     */
+    public Runnable track(SseEmitter emitter, String userId) {
+        emitters.put(emitter, Boolean.TRUE);
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                emitters.remove(emitter);
+                active.decrementAndGet();
+                if (userId != null) {
+                    perUser.computeIfPresent(userId, (key, count) -> count <= 1 ? null : count - 1);
+                }
+            }
+        };
+    }
+
+    public void timeRegistration(Runnable registration) {
+        registrationTimer.record(registration);
+    }
+
+    public int getRetryAfterSeconds() {
+        return properties.getRetryAfterSeconds();
+    }
+
+    void sendHeartbeats() {
+        // 이전 주기 전송이 남아 있으면 건너뛴다 — 막힌 peer 앞에 heartbeat가 쌓이지 않게
+        if (heartbeatsInFlight.get() > 0) {
+            return;
+        }
+        for (SseEmitter emitter : emitters.keySet()) {
+            heartbeatsInFlight.incrementAndGet();
+            heartbeatSenders.execute(() -> {
+                try {
+                    sendHeartbeat(emitter);
+                } finally {
+                    heartbeatsInFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void sendHeartbeat(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("hb"));
+        } catch (IOException e) {
+            // 끊긴 peer: 완료 콜백에서 예산 반환 + dispatcher 등록 해제
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            // 이미 완료된 emitter (콜백 처리 직전)
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -2,76 +2,124 @@ package cloud.coupon.sse;
 
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
 import cloud.coupon.domain.coupon.dto.response.TicketStatus;
-import cloud.coupon.infra.redis.service.RedisTicketService;
+import cloud.coupon.service.TicketQueryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SseEmitterManager {
 
     private static final long SSE_TIMEOUT = 30_000L;
-    private final ConcurrentHashMap<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final RedisTicketService redisTicketService;
-    private final RedisMessageListenerContainer listenerContainer;
-    private final ObjectMapper objectMapper;
+    private static final Duration USER_STREAM_TIMEOUT = Duration.ofMinutes(5);
 
-    public SseEmitterManager(RedisTicketService redisTicketService,
-                             RedisMessageListenerContainer listenerContainer,
-                             ObjectMapper objectMapper) {
-        this.redisTicketService = redisTicketService;
-        this.listenerContainer = listenerContainer;
-        this.objectMapper = objectMapper;
-    }
+    private final TicketResultDispatcher dispatcher;
+    private final SseConnectionRegistry connectionRegistry;
+    private final TicketQueryService ticketQueryService;
+    private final ObjectMapper objectMapper;
 
-    public SseEmitter subscribe(String ticketId) {
-        Optional<TicketResponse> ticket = redisTicketService.getTicket(ticketId);
+    /**
+     * 반환값: 연결 상한 초과 시 empty — 호출자는 503 + long-poll 안내로 응답한다.
+     * 사용자당 상한은 요청 값이 아니라 ticket에 기록된 발급 요청자 기준으로 적용한다.
+     */
+    public Optional<SseEmitter> subscribe(String ticketId) {
+        Optional<TicketResponse> ticket = ticketQueryService.getTicket(ticketId);
 
         // 1. 존재하지 않는 ticket 처리
         if (ticket.isEmpty()) {
-            return createErrorEmitter("존재하지 않는 ticketId입니다.");
+            return Optional.of(createErrorEmitter("존재하지 않는 ticketId입니다."));
         }
 
         // 2. 이미 완료된 경우(PENDING이 아닌 경우) 즉시 반환
         if (ticket.get().getStatus() != TicketStatus.PENDING) {
-            return createStatusEmitter(ticket.get());
+            return Optional.of(createStatusEmitter(ticket.get()));
         }
 
-        // 3. PENDING: Pub/Sub 리스너 등록 (Race Condition 방지)
+        // 3. PENDING: 연결 예산 확보 → 노드 분배기에 등록 (등록 후 재확인 포함)
+        // 소유자가 없는 이전 형식 ticket은 노드 상한만 적용
+        String userId = ticketQueryService.getTicketOwner(ticketId).orElse(null);
+        if (!connectionRegistry.tryAcquire(userId)) {
+            return Optional.empty();
+        }
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        emitters.put(ticketId, emitter);
+        Runnable release = connectionRegistry.track(emitter, userId);
+        Consumer<TicketResponse> sink = result -> sendTicketStatus(emitter, result);
 
-        String channel = redisTicketService.getResultChannelName(ticketId);
-        MessageListener listener = (message, pattern) -> handleMessage(ticketId);
+        // 4. 콜백 설정 (재확인에서 바로 완료될 수 있으므로 등록 전에)
+        emitter.onCompletion(() -> {
+            dispatcher.unregister(ticketId, sink);
+            release.run();
+        });
+        emitter.onTimeout(() -> {
+            if (dispatcher.unregister(ticketId, sink)) {
+                sendTimeout(ticketId, emitter);
+            }
+            release.run();
+        });
+        emitter.onError(e -> {
+            dispatcher.unregister(ticketId, sink);
+            release.run();
+        });
 
-        listenerContainer.addMessageListener(listener, new ChannelTopic(channel));
+        connectionRegistry.timeRegistration(() -> dispatcher.register(ticketId, sink));
+        return Optional.of(emitter);
+    }
 
-        // 4. 리스너 등록 후 재확인 — 등록 전에 완료된 케이스 처리
-        Optional<TicketResponse> recheck = redisTicketService.getTicket(ticketId);
-        if (recheck.isPresent() && recheck.get().getStatus() != TicketStatus.PENDING) {
-            sendTicketStatus(emitter, recheck.get());
-            cleanup(ticketId, listener, channel);
-            return emitter;
+    /**
+     * 사용자 통합 스트림: 연결 1개로 여러 ticket의 결과를 받는다.
+     * 전달된 ticket 외에도, 스트림이 열려 있는 동안 이 사용자가 새로 발급한 ticket 결과가
+     * 사용자 노드 등록(coupon:user:node)을 통해 같은 연결로 전달된다. 결과를 보내도 연결은 닫지 않는다.
+     * userId는 검증된 스트림 토큰에서 꺼낸 값이며, 이 사용자가 발급 요청한 ticket만 구독한다.
+     */
+    public Optional<SseEmitter> subscribeUser(String userId, List<String> ticketIds) {
+        if (!connectionRegistry.tryAcquire(userId)) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(USER_STREAM_TIMEOUT.toMillis());
+        UserStream stream = new UserStream(userId, emitter, connectionRegistry.track(emitter, userId));
+
+        // 같은 사용자의 이전 스트림은 새 스트림으로 교체.
+        // 이전 스트림의 ticket 등록은 emitter 콜백을 기다리지 않고 바로 해제한다 (콜백이 오지 않아도 sink가 남지 않게)
+        Consumer<TicketResponse> previous = dispatcher.registerUser(userId, stream.sink(), USER_STREAM_TIMEOUT);
+        if (previous instanceof UserStream.Sink previousSink) {
+            closeUserStream(previousSink.stream());
+            previousSink.stream().emitter().complete();
         }
 
-        // 5. 콜백 설정
-        emitter.onCompletion(() -> cleanup(ticketId, listener, channel));
-        emitter.onTimeout(() -> {
-            sendTimeout(ticketId, emitter);
-            cleanup(ticketId, listener, channel);
-        });
-        emitter.onError(e -> cleanup(ticketId, listener, channel));
-
-        return emitter;
+        emitter.onCompletion(() -> closeUserStream(stream));
+        emitter.onTimeout(() -> closeUserStream(stream));
+        emitter.onError(e -> closeUserStream(stream));
+
+        Map<String, String> owners = ticketQueryService.getTicketOwners(ticketIds);
+        for (String ticketId : ticketIds) {
+            // 다른 사용자의 ticket은 존재 여부도 알리지 않는다
+            Optional<TicketResponse> ticket = userId.equals(owners.get(ticketId))
+                    ? ticketQueryService.getTicket(ticketId)
+                    : Optional.empty();
+            if (ticket.isEmpty()) {
+                stream.sendError(ticketId, "존재하지 않는 ticketId입니다.");
+            } else if (ticket.get().getStatus() != TicketStatus.PENDING) {
+                stream.send(ticket.get());
+            } else {
+                stream.ticketIds().add(ticketId);
+                connectionRegistry.timeRegistration(() -> dispatcher.register(ticketId, stream.sink()));
+            }
+        }
+        return Optional.of(emitter);
     }
 
     private SseEmitter createErrorEmitter(String message) {
@@ -86,17 +134,6 @@ public class SseEmitterManager {
         return emitter;
     }
 
-    private void handleMessage(String ticketId) {
-        SseEmitter emitter = emitters.get(ticketId);
-        if (emitter == null) return;
-
-        redisTicketService.getTicket(ticketId)
-                .ifPresentOrElse(
-                        ticket -> sendTicketStatus(emitter, ticket),
-                        () -> sendError(emitter, "결과를 가져올 수 없습니다. /status API를 사용해주세요.")
-                );
-    }
-
     private void sendTicketStatus(SseEmitter emitter, TicketResponse ticket) {
         try {
             emitter.send(SseEmitter.event()
@@ -123,13 +160,90 @@ public class SseEmitterManager {
         TicketResponse timeout = TicketResponse.builder()
                 .ticketId(ticketId)
                 .status(TicketStatus.TIMEOUT)
-                .message("처리 시간이 초과되었습니다. /status API로 결과를 확인해주세요.")
+                .message(TicketStatus.TIMEOUT.getDefaultMessage())
                 .build();
         sendTicketStatus(emitter, timeout);
     }
 
-    private void cleanup(String ticketId, MessageListener listener, String channel) {
-        emitters.remove(ticketId);
-        listenerContainer.removeMessageListener(listener, new ChannelTopic(channel));
+    // 교체와 emitter 콜백 양쪽에서 호출될 수 있어 한 번만 수행한다
+    private void closeUserStream(UserStream stream) {
+        if (!stream.markClosed()) {
+            return;
+        }
+        stream.ticketIds().forEach(ticketId -> dispatcher.unregister(ticketId, stream.sink()));
+        dispatcher.unregisterUser(stream.userId(), stream.sink());
+        stream.release().run();
+    }
+
+    /**
+     * 사용자 통합 스트림. 결과 전송 후에도 연결을 유지하며, 모든 이벤트에 ticketId가 포함된다.
+     */
+    private final class UserStream {
+
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Runnable release;
+        private final Set<String> ticketIds = ConcurrentHashMap.newKeySet();
+        private final Sink sink = new Sink(this);
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private UserStream(String userId, SseEmitter emitter, Runnable release) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.release = release;
+        }
+
+        String userId() {
+            return userId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        Runnable release() {
+            return release;
+        }
+
+        Set<String> ticketIds() {
+            return ticketIds;
+        }
+
+        boolean markClosed() {
+            return closed.compareAndSet(false, true);
+        }
+
+        Sink sink() {
+            return sink;
+        }
+
+        void send(TicketResponse ticket) {
+            ticketIds.remove(ticket.getTicketId());
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("status")
+                        .data(objectMapper.writeValueAsString(ticket)));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+        }
+
+        void sendError(String ticketId, String message) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("error")
+                        .data(objectMapper.writeValueAsString(Map.of("ticketId", ticketId, "message", message))));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+        }
+
+        // 이전 스트림 교체 시 dispatcher가 돌려준 sink에서 스트림을 찾기 위한 타입
+        private record Sink(UserStream stream) implements Consumer<TicketResponse> {
+            @Override
+            public void accept(TicketResponse ticket) {
+                stream.send(ticket);
+            }
+        }
     }
 }
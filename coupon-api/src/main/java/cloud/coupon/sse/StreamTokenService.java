@@ -0,0 +1,83 @@
+package cloud.coupon.sse;
+
+import cloud.coupon.config.SseProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 통합 스트림 토큰: "userId.만료시각(ms).HMAC-SHA256".
+ * 발급 접수 응답에만 실어 주므로, 토큰을 가진 쪽은 그 사용자로 발급을 요청한 클라이언트다.
+ * 스트림 구독은 query의 userId 대신 토큰에서 꺼낸 userId만 쓴다.
+ */
+@Slf4j
+@Component
+public class StreamTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+    private final long ttlMs;
+
+    public StreamTokenService(SseProperties sseProperties) {
+        byte[] secret = sseProperties.getStreamTokenSecret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length == 0) {
+            log.warn("coupon.sse.stream-token-secret 미설정: 노드별 임의 키 사용 (다른 노드에서 발급한 토큰은 거절된다)");
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttlMs = sseProperties.getStreamTokenTtlMs();
+    }
+
+    public String issue(String userId) {
+        String payload = userId + "." + (System.currentTimeMillis() + ttlMs);
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * 반환값: 서명이 맞고 만료되지 않았으면 userId
+     */
+    public Optional<String> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int signatureAt = token.lastIndexOf('.');
+        int expiresAt = token.lastIndexOf('.', signatureAt - 1);
+        if (expiresAt <= 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, signatureAt);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.UTF_8);
+        byte[] actual = token.substring(signatureAt + 1).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+        try {
+            if (Long.parseLong(token.substring(expiresAt + 1, signatureAt)) < System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        return Optional.of(token.substring(0, expiresAt));
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("스트림 토큰 서명 실패", e);
+        }
+    }
+}
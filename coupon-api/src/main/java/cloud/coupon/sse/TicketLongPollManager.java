@@ -0,0 +1,52 @@
+package cloud.coupon.sse;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import cloud.coupon.service.TicketQueryService;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * long-poll 상태 조회. 요청을 비동기로 보류했다가 결과가 오거나 대기 시간이 끝나면 한 번 응답한다.
+ * SSE와 같은 노드 분배기를 쓰고, 연결당 상태는 DeferredResult 하나뿐이다.
+ * 대기 시간이 끝나면 현재 상태(PENDING)를 200으로 돌려주고 클라이언트가 다시 요청한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketLongPollManager {
+
+    static final long MAX_WAIT_MS = 30_000L;
+
+    private final TicketResultDispatcher dispatcher;
+    private final TicketQueryService ticketQueryService;
+
+    public DeferredResult<ResponseEntity<TicketResponse>> await(String ticketId, long waitMs) {
+        long timeout = Math.max(0, Math.min(waitMs, MAX_WAIT_MS));
+        DeferredResult<ResponseEntity<TicketResponse>> result = new DeferredResult<>(timeout);
+
+        Optional<TicketResponse> ticket = ticketQueryService.getTicket(ticketId);
+        if (ticket.isEmpty()) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+        if (ticket.get().getStatus() != TicketStatus.PENDING || timeout == 0) {
+            result.setResult(ResponseEntity.ok(ticket.get()));
+            return result;
+        }
+
+        Consumer<TicketResponse> sink = completed -> result.setResult(ResponseEntity.ok(completed));
+        result.onTimeout(() -> {
+            if (dispatcher.unregister(ticketId, sink)) {
+                result.setResult(ResponseEntity.ok(ticket.get()));
+            }
+        });
+        result.onCompletion(() -> dispatcher.unregister(ticketId, sink));
+        result.onError(e -> dispatcher.unregister(ticketId, sink));
+        dispatcher.register(ticketId, sink);
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package cloud.coupon.sse;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import cloud.coupon.infra.redis.service.RedisTicketService.ResultMessage;
+import cloud.coupon.service.TicketQueryService;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 단위 결과 분배기 (SSE, long-poll 공용).
+ * 결과는 이 노드 전용 채널 1개로만 받고, ticketId → 전달 대상(sink) 집합 로컬 맵으로 분배한다.
+ * consumer는 ticket에 등록된 노드 채널에만 발행하므로 API 노드 수와 무관하게 ticket당 전달 1회.
+ * 같은 ticket을 여러 연결(SSE, long-poll, 탭 여러 개)이 기다릴 수 있고, 각 sink는 맵에서 먼저 꺼낸 쪽만 호출하므로 최대 1회 호출된다.
+ * coupon.result.sharded-pubsub=true면 노드 채널을 SSUBSCRIBE로 받는다 (consumer도 같은 설정이어야 한다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketResultDispatcher {
+
+    // ticketId → 결과 전달 대상 (같은 ticket의 대기자 여럿)
+    private final ConcurrentHashMap<String, Set<Consumer<TicketResponse>>> sinks = new ConcurrentHashMap<>();
+    // userId → 사용자 통합 스트림 (ticket 단건 등록이 없는 결과를 받는다)
+    private final ConcurrentHashMap<String, Consumer<TicketResponse>> userSinks = new ConcurrentHashMap<>();
+    private final RedisTicketService redisTicketService;
+    private final TicketQueryService ticketQueryService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ShardedResultSubscriber shardedResultSubscriber;
+    private final NodeIdentity nodeIdentity;
+
+    @PostConstruct
+    void subscribeResultChannel() {
+        String channel = redisTicketService.getNodeChannelName(nodeIdentity.getNodeId());
+        if (redisTicketService.isShardedPubSub()) {
+            shardedResultSubscriber.subscribe(channel, this::onResultPayload);
+            return;
+        }
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onResultPayload(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+
+    /**
+     * 로컬 dispatch 맵 등록 → ticket에 이 노드 등록 → 재확인.
+     * 노드 등록 전에 완료(발행 생략)된 ticket은 재확인에서 전달한다.
+     */
+    public void register(String ticketId, Consumer<TicketResponse> sink) {
+        sinks.compute(ticketId, (id, waiting) -> {
+            Set<Consumer<TicketResponse>> updated = waiting != null ? waiting : ConcurrentHashMap.newKeySet();
+            updated.add(sink);
+            return updated;
+        });
+        redisTicketService.registerSubscriberNode(ticketId, nodeIdentity.getNodeId());
+
+        Optional<TicketResponse> recheck = ticketQueryService.getTicket(ticketId);
+        if (recheck.isPresent() && recheck.get().getStatus() != TicketStatus.PENDING) {
+            // 맵에서 먼저 꺼낸 쪽(메시지 수신 or 재확인)만 전송
+            if (removeSink(ticketId, sink)) {
+                sink.accept(recheck.get());
+            }
+        }
+    }
+
+    /**
+     * 반환값: 아직 결과를 받지 않은 등록을 해제했으면 true (이후 sink는 호출되지 않는다)
+     */
+    public boolean unregister(String ticketId, Consumer<TicketResponse> sink) {
+        // 같은 ticket을 기다리는 다른 sink는 남겨둔다
+        return removeSink(ticketId, sink);
+    }
+
+    private boolean removeSink(String ticketId, Consumer<TicketResponse> sink) {
+        boolean[] removed = {false};
+        sinks.computeIfPresent(ticketId, (id, waiting) -> {
+            removed[0] = waiting.remove(sink);
+            return waiting.isEmpty() ? null : waiting;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 사용자 통합 스트림 등록. 이 사용자의 결과 중 ticket 단건 등록이 없는 것을 받는다.
+     * 반환값: 같은 사용자의 이전 스트림 (없으면 null)
+     */
+    public Consumer<TicketResponse> registerUser(String userId, Consumer<TicketResponse> sink, Duration ttl) {
+        Consumer<TicketResponse> previous = userSinks.put(userId, sink);
+        redisTicketService.registerUserStreamNode(userId, nodeIdentity.getNodeId(), ttl);
+        return previous;
+    }
+
+    public void unregisterUser(String userId, Consumer<TicketResponse> sink) {
+        if (userSinks.remove(userId, sink)) {
+            redisTicketService.unregisterUserStreamNode(userId, nodeIdentity.getNodeId());
+        }
+    }
+
+    private void onResultPayload(String payload) {
+        ResultMessage result = redisTicketService.parseResultMessage(payload);
+        if (result.ticketId() != null) {
+            dispatch(result);
+        }
+    }
+
+    private void dispatch(ResultMessage result) {
+        String ticketId = result.ticketId();
+        // 구독자가 없어도 캐시해 둔다 — 이후 /status 폴링을 로컬에서 응답
+        if (result.ticket() != null) {
+            ticketQueryService.cacheIfTerminal(result.ticket());
+        }
+
+        Set<Consumer<TicketResponse>> waiting = sinks.remove(ticketId);
+        if (waiting == null || waiting.isEmpty()) {
+            // ticket 단건 등록이 없으면 사용자 통합 스트림으로 (스트림 연결 후 발급된 ticket)
+            Consumer<TicketResponse> userSink = result.userId() != null ? userSinks.get(result.userId()) : null;
+            if (userSink == null) return;
+            waiting = Set.of(userSink);
+        }
+
+        // payload에 결과가 실려 있으면 그대로 전달, 해석 불가 시에만 GET
+        TicketResponse ticket = result.ticket() != null ? result.ticket() : ticketQueryService.getTicket(ticketId)
+                .orElseGet(() -> TicketResponse.failed(ticketId, "결과를 가져올 수 없습니다. /status API를 사용해주세요."));
+        waiting.forEach(sink -> sink.accept(ticket));
+    }
+}
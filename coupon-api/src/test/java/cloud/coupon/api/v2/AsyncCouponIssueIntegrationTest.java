@@ -3,6 +3,8 @@ package cloud.coupon.api.v2;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.domain.coupon.dto.request.TicketBatchStatusRequest;
+import cloud.coupon.domain.coupon.dto.response.TicketBatchStatusResponse;
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
 import cloud.coupon.domain.coupon.dto.response.TicketStatus;
 import cloud.coupon.domain.coupon.entity.Coupon;
@@ -12,6 +14,7 @@ import cloud.coupon.domain.coupon.repository.CouponRepository;
 import cloud.coupon.infra.redis.service.RedisStockService;
 import cloud.coupon.infra.redis.service.RedisTicketService;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -140,6 +143,46 @@ class AsyncCouponIssueIntegrationTest {
         assertThat(statusResponse.getBody().getTicketId()).isEqualTo(ticketId);
     }
 
+    @Test
+    @DisplayName("일괄 상태 조회 — 존재하는 ticket과 없는 ticket을 한 응답으로 반환")
+    void getStatuses_batch() {
+        // given
+        createCoupon(10);
+        String ticketId = restTemplate.postForEntity("/api/v2/coupons/issue",
+                new CouponIssueRequest(COUPON_CODE, 6L, "127.0.0.1"), TicketResponse.class).getBody().getTicketId();
+
+        // when
+        ResponseEntity<TicketBatchStatusResponse> response = restTemplate.postForEntity(
+                "/api/v2/coupons/status:batch",
+                new TicketBatchStatusRequest(List.of(ticketId, "tkt_unknown")),
+                TicketBatchStatusResponse.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().tickets()).extracting(TicketResponse::getTicketId).containsExactly(ticketId);
+        assertThat(response.getBody().notFound()).containsExactly("tkt_unknown");
+    }
+
+    @Test
+    @DisplayName("long-poll — 대기 시간 안에 결과가 없으면 현재 상태(PENDING)로 응답, 없는 ticket은 404")
+    void awaitStatus_returnsPendingAfterWait() {
+        // given
+        createCoupon(10);
+        String ticketId = restTemplate.postForEntity("/api/v2/coupons/issue",
+                new CouponIssueRequest(COUPON_CODE, 7L, "127.0.0.1"), TicketResponse.class).getBody().getTicketId();
+
+        // when
+        ResponseEntity<TicketResponse> response = restTemplate.getForEntity(
+                "/api/v2/coupons/status/" + ticketId + "/wait?waitMs=200", TicketResponse.class);
+        ResponseEntity<String> unknown = restTemplate.getForEntity(
+                "/api/v2/coupons/status/tkt_unknown/wait?waitMs=200", String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getStatus()).isEqualTo(TicketStatus.PENDING);
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     /**
      * Consumer 없이는 PENDING → COMPLETED 전이가 발생하지 않으므로 disabled 처리.
      * coupon-consumer 모듈이 동일 JVM에서 실행될 때만 의미 있는 테스트입니다.
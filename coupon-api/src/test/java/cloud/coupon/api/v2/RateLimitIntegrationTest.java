@@ -0,0 +1,121 @@
+package cloud.coupon.api.v2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.infra.redis.service.RedisRateLimitService;
+import cloud.coupon.infra.redis.service.RedisRateLimitService.Bucket;
+import cloud.coupon.infra.redis.service.RedisStockService;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 발급 rate limit 통합 테스트.
+ *
+ * <p>실행 전제조건: 로컬 Redis(localhost:6379)가 구동 중이어야 합니다.
+ * 사용자 bucket은 1개, 초당 0.5개 회복 → 거절 시 Retry-After 2초.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "coupon.rate-limit.enabled=true",
+                "coupon.rate-limit.default-budget.user-capacity=1",
+                "coupon.rate-limit.default-budget.user-refill-per-second=0.5",
+                "coupon.rate-limit.default-budget.ip-capacity=10",
+                "coupon.rate-limit.default-budget.ip-refill-per-second=1"
+        })
+class RateLimitIntegrationTest {
+
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private RedisStockService redisStockService;
+    @Autowired private RedisRateLimitService redisRateLimitService;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private static final String COUPON_CODE = "TEST_RATELIMIT_001";
+    private static final String KEY_PREFIX = "coupon:ratelimit:{" + COUPON_CODE + "}:";
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("한 bucket이라도 토큰이 없으면 어느 bucket도 차감하지 않는다")
+    void tryAcquire_deductsBothOrNeither() {
+        // given: ip bucket 소진
+        Bucket ip = new Bucket("ip:127.0.0.1", 1, 0.001);
+        assertThat(redisRateLimitService.tryAcquire(COUPON_CODE, List.of(new Bucket("user:1", 5, 1), ip)))
+                .isZero();
+
+        // when: 다른 사용자가 같은 IP로 요청
+        long result = redisRateLimitService.tryAcquire(COUPON_CODE, List.of(new Bucket("user:2", 5, 1), ip));
+
+        // then: 2번째 bucket(ip) 부족, user:2 bucket은 만들어지지도 않음
+        assertThat(result).isEqualTo(2);
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "user:2")).isFalse();
+        assertThat(redisTemplate.opsForHash().get(KEY_PREFIX + "user:1", "t")).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("Redis tier 예산 초과 → 429 + Retry-After")
+    void issue_rejectedByRedisTier() {
+        // given: 다른 노드가 이 사용자의 전역 bucket을 이미 소진
+        redisStockService.initializeStock(COUPON_CODE, 10);
+        redisRateLimitService.tryAcquire(COUPON_CODE, List.of(new Bucket("user:1", 1, 0.5)));
+
+        // when: 이 노드의 로컬 bucket은 비어 있지 않으므로 Redis tier에서 거절
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/v2/coupons/issue",
+                new CouponIssueRequest(COUPON_CODE, 1L, "127.0.0.1"), String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        // 거절된 요청은 ip bucket도 차감하지 않는다
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "ip:127.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 tier 예산 초과 → 429 + Retry-After")
+    void issue_rejectedByLocalTier() {
+        // given
+        redisStockService.initializeStock(COUPON_CODE, 10);
+        CouponIssueRequest request = new CouponIssueRequest(COUPON_CODE, 2L, "127.0.0.1");
+
+        // when
+        ResponseEntity<String> first = restTemplate.postForEntity("/api/v2/coupons/issue", request, String.class);
+        ResponseEntity<String> second = restTemplate.postForEntity("/api/v2/coupons/issue", request, String.class);
+
+        // then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("requestIp 없이 보내도 접속 주소로 IP 한도를 적용한다")
+    void issue_withoutRequestIp_usesRemoteAddress() {
+        // given
+        redisStockService.initializeStock(COUPON_CODE, 10);
+
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/v2/coupons/issue",
+                new CouponIssueRequest(COUPON_CODE, 3L, null), String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "ip:127.0.0.1")).isTrue();
+    }
+}
@@ -0,0 +1,131 @@
+package cloud.coupon.api.v2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.domain.coupon.dto.request.WaitingRoomEnterRequest;
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.WaitingRoomResponse;
+import cloud.coupon.domain.coupon.dto.response.WaitingRoomStatus;
+import cloud.coupon.infra.redis.service.RedisStockService;
+import cloud.coupon.infra.redis.service.RedisWaitingRoomService;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 대기열 통합 테스트.
+ *
+ * <p>실행 전제조건: 로컬 Redis(localhost:6379)가 구동 중이어야 합니다.
+ * wave 주기를 길게 잡아 스케줄러 대신 테스트에서 admitWave를 직접 호출합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "coupon.waiting-room.enabled=true",
+                "coupon.waiting-room.wave-size=2",
+                "coupon.waiting-room.wave-interval-ms=600000"
+        })
+class WaitingRoomIntegrationTest {
+
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private RedisStockService redisStockService;
+    @Autowired private RedisWaitingRoomService redisWaitingRoomService;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private static final String COUPON_CODE = "TEST_WAITING_001";
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private ResponseEntity<WaitingRoomResponse> enter(long userId) {
+        return restTemplate.postForEntity("/api/v2/coupons/waiting-room",
+                new WaitingRoomEnterRequest(COUPON_CODE, userId), WaitingRoomResponse.class);
+    }
+
+    @Test
+    @DisplayName("도착 순서대로 순번 부여, 재진입해도 순번 유지")
+    void enter_assignsPositionByArrival() {
+        // given
+        redisStockService.initializeStock(COUPON_CODE, 10);
+
+        // when
+        enter(1L);
+        ResponseEntity<WaitingRoomResponse> second = enter(2L);
+        ResponseEntity<WaitingRoomResponse> reentered = enter(1L);
+
+        // then
+        assertThat(second.getBody().status()).isEqualTo(WaitingRoomStatus.WAITING);
+        assertThat(second.getBody().position()).isEqualTo(2);
+        assertThat(reentered.getBody().position()).isEqualTo(1);
+        assertThat(reentered.getBody().estimatedWaitMs()).isEqualTo(600000);
+    }
+
+    @Test
+    @DisplayName("wave 입장 인원은 wave 크기와 남은 재고 중 작은 값")
+    void admitWave_limitedByStock() {
+        // given: 재고 1, wave 크기 2
+        redisStockService.initializeStock(COUPON_CODE, 1);
+        enter(1L);
+        enter(2L);
+        enter(3L);
+
+        // when
+        long admitted = redisWaitingRoomService.admitWave(COUPON_CODE);
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+        ResponseEntity<WaitingRoomResponse> first = restTemplate.getForEntity(
+                "/api/v2/coupons/waiting-room/" + COUPON_CODE + "/users/1", WaitingRoomResponse.class);
+        ResponseEntity<WaitingRoomResponse> second = restTemplate.getForEntity(
+                "/api/v2/coupons/waiting-room/" + COUPON_CODE + "/users/2", WaitingRoomResponse.class);
+        assertThat(first.getBody().status()).isEqualTo(WaitingRoomStatus.ADMITTED);
+        assertThat(second.getBody().status()).isEqualTo(WaitingRoomStatus.WAITING);
+        assertThat(second.getBody().position()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입장 허가 없이 발급 요청 → 403, 허가 후 → 202")
+    void issue_requiresAdmission() {
+        // given
+        redisStockService.initializeStock(COUPON_CODE, 10);
+        CouponIssueRequest request = new CouponIssueRequest(COUPON_CODE, 1L, "127.0.0.1");
+
+        // when
+        ResponseEntity<String> rejected = restTemplate.postForEntity("/api/v2/coupons/issue", request, String.class);
+        enter(1L);
+        redisWaitingRoomService.admitWave(COUPON_CODE);
+        ResponseEntity<TicketResponse> accepted = restTemplate.postForEntity(
+                "/api/v2/coupons/issue", request, TicketResponse.class);
+
+        // then
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("대기열에 없는 사용자 상태 조회 → 404")
+    void getStatus_notWaiting() {
+        // given
+        redisStockService.initializeStock(COUPON_CODE, 10);
+
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/v2/coupons/waiting-room/" + COUPON_CODE + "/users/99", String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,122 @@
+package cloud.coupon.api.v3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import cloud.coupon.domain.coupon.entity.Coupon;
+import cloud.coupon.domain.coupon.entity.CouponType;
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.infra.redis.service.RedisStockService;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 비동기 쿠폰 발급 v3 API(Lettuce reactive 접수) 통합 테스트.
+ *
+ * <p>실행 전제조건: 로컬 Redis(localhost:6379)가 구동 중이어야 합니다.
+ * 응답 계약은 v2와 같아야 하므로 v2 테스트와 같은 시나리오를 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CouponV3IssueIntegrationTest {
+
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private CouponRepository couponRepository;
+    @Autowired private CouponIssueRepository couponIssueRepository;
+    @Autowired private RedisStockService redisStockService;
+    @Autowired private RedisTicketService redisTicketService;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private static final String COUPON_CODE = "TEST_ASYNC_V3_001";
+
+    @BeforeEach
+    void setUp() {
+        couponIssueRepository.deleteAll();
+        couponRepository.findByCodeAndIsDeletedFalse(COUPON_CODE)
+                .ifPresent(c -> couponRepository.delete(c));
+
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private void createCoupon(int stock) {
+        Coupon coupon = Coupon.builder()
+                .code(COUPON_CODE)
+                .name("비동기 v3 테스트 쿠폰")
+                .totalStock(stock)
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startTime(LocalDateTime.now().minusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1))
+                .expireTime(LocalDateTime.now().plusDays(30))
+                .build();
+        couponRepository.save(coupon);
+        redisStockService.initializeStock(COUPON_CODE, stock);
+    }
+
+    @Test
+    @DisplayName("v3 비동기 접수 → v2와 같은 202 응답 + PENDING 티켓 저장")
+    void issueCouponV3_accepted() {
+        // given
+        createCoupon(10);
+        CouponIssueRequest request = new CouponIssueRequest(COUPON_CODE, 4L, "127.0.0.1");
+
+        // when
+        ResponseEntity<TicketResponse> response = restTemplate.postForEntity(
+                "/api/v3/coupons/issue", request, TicketResponse.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        String ticketId = response.getBody().getTicketId();
+        assertThat(ticketId).startsWith("tkt_");
+        assertThat(redisTicketService.getTicket(ticketId))
+                .hasValueSatisfying(ticket -> assertThat(ticket.getStatus()).isEqualTo(TicketStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("v3 비동기 접수 — 중복 발급 요청은 v2와 같은 응답(처리 중 PENDING)")
+    void issueCouponV3_inflightDuplicate() {
+        // given
+        createCoupon(10);
+        CouponIssueRequest request = new CouponIssueRequest(COUPON_CODE, 5L, "127.0.0.1");
+        restTemplate.postForEntity("/api/v3/coupons/issue", request, TicketResponse.class);
+
+        // when
+        ResponseEntity<TicketResponse> duplicate = restTemplate.postForEntity(
+                "/api/v3/coupons/issue", request, TicketResponse.class);
+
+        // then
+        assertThat(duplicate.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(duplicate.getBody().getStatus()).isEqualTo(TicketStatus.PENDING);
+        assertThat(duplicate.getBody().getTicketId()).isNull();
+    }
+
+    @Test
+    @DisplayName("v3 비동기 접수 — 재고 소진 → 400 Bad Request")
+    void issueCouponV3_outOfStock() {
+        // given
+        createCoupon(0);
+        CouponIssueRequest request = new CouponIssueRequest(COUPON_CODE, 1L, "127.0.0.1");
+
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/v3/coupons/issue", request, String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
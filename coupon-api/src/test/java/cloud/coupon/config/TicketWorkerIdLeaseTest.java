@@ -0,0 +1,70 @@
+package cloud.coupon.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.global.error.exception.ticket.TicketIdUnavailableException;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import java.time.Duration;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TicketWorkerIdLeaseTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final RedisTicketService redisTicketService = mock(RedisTicketService.class);
+    private TicketWorkerIdLease lease;
+
+    @AfterEach
+    void tearDown() {
+        lease.close();
+    }
+
+    @Test
+    void issuesWhileLeaseIsValid() {
+        lease = new TicketWorkerIdLease(redisTicketService, 1024, "node-a", TTL, 3, System.nanoTime());
+
+        assertThat(lease.currentWorkerId()).isEqualTo(3);
+    }
+
+    @Test
+    void stopsIssuingAfterLeaseExpires() {
+        // 마지막 연장 요청이 TTL보다 오래전
+        lease = new TicketWorkerIdLease(redisTicketService, 1024, "node-a", TTL, 3,
+                System.nanoTime() - TTL.toNanos());
+
+        assertThatThrownBy(lease::currentWorkerId).isInstanceOf(TicketIdUnavailableException.class);
+    }
+
+    @Test
+    void reacquiresAnotherWorkerIdWhenLeaseIsTaken() {
+        lease = new TicketWorkerIdLease(redisTicketService, 1024, "node-a", TTL, 3, System.nanoTime());
+        when(redisTicketService.renewWorkerId(eq(3), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTicketService.acquireWorkerId(anyInt(), anyString(), any(Duration.class)))
+                .thenReturn(OptionalInt.of(8));
+
+        lease.renew();
+
+        assertThat(lease.currentWorkerId()).isEqualTo(8);
+    }
+
+    @Test
+    void staysFencedWhenNoWorkerIdIsFree() {
+        lease = new TicketWorkerIdLease(redisTicketService, 1024, "node-a", TTL, 3, System.nanoTime());
+        when(redisTicketService.renewWorkerId(eq(3), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTicketService.acquireWorkerId(anyInt(), anyString(), any(Duration.class)))
+                .thenReturn(OptionalInt.empty());
+
+        lease.renew();
+
+        assertThatThrownBy(lease::currentWorkerId).isInstanceOf(TicketIdUnavailableException.class);
+    }
+}
@@ -4,6 +4,7 @@ import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_DE
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_DISABLED_ERROR_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_EXISTS_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_USED_ERROR_MESSAGE;
+import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_CODE_POOL_SIZE_ERROR_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_NOT_FOUND_MESSAGE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -19,6 +20,7 @@ import cloud.coupon.global.error.exception.coupon.CouponAlreadyDeletedException;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyDisabledException;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyExistException;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyUsedException;
+import cloud.coupon.global.error.exception.coupon.CouponCodePoolSizeException;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -73,6 +75,25 @@ class CouponAdminServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("prepareCodePool 메서드는")
+    class PrepareCodePoolTest {
+        @Test
+        @DisplayName("풀 크기가 1 미만이거나 총 재고보다 크면 예외를 던진다")
+        void prepareCodePoolInvalidSizeTest() {
+            // given
+            CouponResponse createdCoupon = couponAdminService.createCoupon(CouponFixture.createRequest());
+
+            // when & then
+            assertThatThrownBy(() -> couponAdminService.prepareCodePool(createdCoupon.id(), 0))
+                    .isInstanceOf(CouponCodePoolSizeException.class)
+                    .hasMessage(COUPON_CODE_POOL_SIZE_ERROR_MESSAGE);
+            assertThatThrownBy(() -> couponAdminService.prepareCodePool(createdCoupon.id(), 11))
+                    .isInstanceOf(CouponCodePoolSizeException.class)
+                    .hasMessage(COUPON_CODE_POOL_SIZE_ERROR_MESSAGE);
+        }
+    }
+
     @Nested
     @DisplayName("updateCoupon 메서드는")
     class UpdateCouponTest {
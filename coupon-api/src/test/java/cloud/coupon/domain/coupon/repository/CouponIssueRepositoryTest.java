@@ -0,0 +1,71 @@
+package cloud.coupon.domain.coupon.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cloud.coupon.domain.coupon.entity.Coupon;
+import cloud.coupon.domain.coupon.entity.CouponIssue;
+import cloud.coupon.domain.coupon.entity.CouponType;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@SpringBootTest
+class CouponIssueRepositoryTest {
+
+    private static final String COUPON_CODE = "TEST-ISSUE-CODE";
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponIssueRepository couponIssueRepository;
+
+    @AfterEach
+    void tearDown() {
+        couponIssueRepository.deleteAll();
+        couponRepository.deleteAll();
+    }
+
+    private Coupon saveCoupon() {
+        LocalDateTime now = LocalDateTime.now();
+        return couponRepository.save(Coupon.builder()
+                .name("코드 비정규화 테스트")
+                .code(COUPON_CODE)
+                .totalStock(10)
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startTime(now.minusDays(1))
+                .endTime(now.plusDays(1))
+                .expireTime(now.plusDays(30))
+                .build());
+    }
+
+    @Test
+    @DisplayName("발급 행에 coupon_code가 채워지고 join 없이 중복/개수 조회")
+    void duplicateCheckUsesDenormalizedCode() {
+        Coupon coupon = saveCoupon();
+        couponIssueRepository.save(CouponIssue.builder().coupon(coupon).userId(1L).issuedCode("ISSUED-1").build());
+
+        assertThat(couponIssueRepository.existsByCouponCodeAndUserId(COUPON_CODE, 1L)).isTrue();
+        assertThat(couponIssueRepository.existsByCouponCodeAndUserId(COUPON_CODE, 2L)).isFalse();
+        assertThat(couponIssueRepository.countByCouponCode(COUPON_CODE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("uk_coupon_issue_code_user — 같은 코드의 다른 쿠폰 행이어도 사용자당 1건")
+    void uniqueConstraintOnCouponCodeAndUser() {
+        // 같은 템플릿 코드로 쿠폰 행이 둘이면 (coupon_id, user_id) 제약은 통과하므로 (coupon_code, user_id) 제약만 검증된다
+        Coupon first = saveCoupon();
+        Coupon second = saveCoupon();
+        couponIssueRepository.saveAndFlush(CouponIssue.builder().coupon(first).userId(1L).issuedCode("ISSUED-1").build());
+
+        assertThatThrownBy(() -> couponIssueRepository.saveAndFlush(
+                CouponIssue.builder().coupon(second).userId(1L).issuedCode("ISSUED-2").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
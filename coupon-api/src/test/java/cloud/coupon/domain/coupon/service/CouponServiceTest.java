@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
+import cloud.coupon.domain.coupon.dto.request.CouponRedemptionRequest;
 import cloud.coupon.domain.coupon.dto.response.CouponIssueResult;
 import cloud.coupon.domain.coupon.entity.Coupon;
 import cloud.coupon.domain.coupon.entity.CouponIssue;
@@ -57,6 +58,9 @@ class CouponServiceTest {
     @Autowired
     private CouponUseHistoryRepository couponUseHistoryRepository;
 
+    @Autowired
+    private CouponRedemptionPersistenceService couponRedemptionPersistenceService;
+
     @Autowired
     private CouponIssuanceStrategy issuanceStrategy;
 
@@ -214,6 +218,29 @@ class CouponServiceTest {
         assertThat(couponIssue.getStatus()).isEqualTo(CouponIssueStatus.USED);
     }
 
+    @Test
+    @DisplayName("redemption 이벤트가 재전달되어도 사용 내역은 1건만 반영된다")
+    void persistRedemptions_idempotent() {
+        // given
+        CouponIssueResult couponIssueResult = couponService.issueCoupon(
+                new CouponIssueRequest(code, userId, requestIp));
+        CouponRedemptionRequest request = new CouponRedemptionRequest(
+                couponIssueResult.getCouponCode(), userId, code, LocalDateTime.now());
+
+        // when
+        int first = couponRedemptionPersistenceService.persistRedemptions(List.of(request));
+        int second = couponRedemptionPersistenceService.persistRedemptions(List.of(request, request));
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(couponUseHistoryRepository.count()).isEqualTo(1);
+        CouponIssue couponIssue = couponIssueRepository.findOneByIssuedCodeAndUserId(couponIssueResult.getCouponCode(),
+                        userId)
+                .orElseThrow();
+        assertThat(couponIssue.getStatus()).isEqualTo(CouponIssueStatus.USED);
+    }
+
     @Test
     @DisplayName("존재하지 않는 쿠폰 사용 시도시 예외 발생")
     void useCoupon_couponIssueNotFound() {
@@ -0,0 +1,50 @@
+package cloud.coupon.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LocalTokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 1, START);
+
+        assertThat(bucket.tryAcquire(START)).isTrue();
+        assertThat(bucket.tryAcquire(START)).isTrue();
+        assertThat(bucket.tryAcquire(START)).isTrue();
+        assertThat(bucket.tryAcquire(START)).isFalse();
+    }
+
+    @Test
+    void refillsAtConfiguredRateWithoutExceedingCapacity() {
+        LocalTokenBucket bucket = new LocalTokenBucket(2, 2, START);
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        long shortlyAfter = START + TimeUnit.MILLISECONDS.toNanos(600);
+        assertThat(bucket.tryAcquire(shortlyAfter)).isTrue();
+        assertThat(bucket.tryAcquire(shortlyAfter)).isFalse();
+
+        long longAfter = shortlyAfter + TimeUnit.SECONDS.toNanos(60);
+        assertThat(bucket.tryAcquire(longAfter)).isTrue();
+        assertThat(bucket.tryAcquire(longAfter)).isTrue();
+        assertThat(bucket.tryAcquire(longAfter)).isFalse();
+    }
+
+    @Test
+    void deductsFromEveryBucketOrNone() {
+        LocalTokenBucket user = new LocalTokenBucket(5, 1, START);
+        LocalTokenBucket ip = new LocalTokenBucket(1, 0.001, START);
+        assertThat(LocalTokenBucket.tryAcquireAll(List.of(user, ip), START)).isEqualTo(-1);
+
+        // ip bucket이 비어 있으면 user bucket도 차감하지 않는다
+        LocalTokenBucket otherUser = new LocalTokenBucket(1, 0.001, START);
+        assertThat(LocalTokenBucket.tryAcquireAll(List.of(otherUser, ip), START)).isEqualTo(1);
+        assertThat(otherUser.tryAcquire(START)).isTrue();
+    }
+}
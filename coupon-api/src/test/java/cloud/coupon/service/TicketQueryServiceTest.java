@@ -0,0 +1,89 @@
+package cloud.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.dto.response.TicketBatchStatusResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TicketQueryServiceTest {
+
+    private final RedisTicketService redisTicketService = mock(RedisTicketService.class);
+    private TicketQueryService ticketQueryService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTicketService.getTicketTtl()).thenReturn(Duration.ofMinutes(5));
+        ticketQueryService = new TicketQueryService(redisTicketService, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void terminalTicketIsReadFromRedisOnlyOnce() {
+        when(redisTicketService.getTicket("tkt_1"))
+                .thenReturn(Optional.of(TicketResponse.completed("tkt_1", "AB12CD34")));
+        when(redisTicketService.getRemainingTtls(List.of("tkt_1"))).thenReturn(Map.of("tkt_1", Duration.ofMinutes(4)));
+
+        ticketQueryService.getTicket("tkt_1");
+        Optional<TicketResponse> second = ticketQueryService.getTicket("tkt_1");
+
+        assertThat(second).get().extracting(TicketResponse::getIssuedCode).isEqualTo("AB12CD34");
+        verify(redisTicketService, times(1)).getTicket("tkt_1");
+    }
+
+    @Test
+    void terminalTicketWhoseRedisKeyHasNoTtlLeftIsNotCached() {
+        // PTTL 조회 전에 키가 만료되면 맵에 없다
+        when(redisTicketService.getTicket("tkt_7"))
+                .thenReturn(Optional.of(TicketResponse.completed("tkt_7", "AB12CD34")));
+        when(redisTicketService.getRemainingTtls(List.of("tkt_7"))).thenReturn(Map.of());
+
+        ticketQueryService.getTicket("tkt_7");
+        ticketQueryService.getTicket("tkt_7");
+
+        verify(redisTicketService, times(2)).getTicket("tkt_7");
+    }
+
+    @Test
+    void pendingTicketIsNotCached() {
+        when(redisTicketService.getTicket("tkt_2")).thenReturn(Optional.of(TicketResponse.pending("tkt_2")));
+
+        ticketQueryService.getTicket("tkt_2");
+        ticketQueryService.getTicket("tkt_2");
+
+        verify(redisTicketService, times(2)).getTicket("tkt_2");
+    }
+
+    @Test
+    void publishedResultIsServedWithoutRedisRead() {
+        ticketQueryService.cacheIfTerminal(TicketResponse.failed("tkt_3", "최대 재시도 초과"));
+
+        assertThat(ticketQueryService.getTicket("tkt_3")).get()
+                .extracting(TicketResponse::getMessage).isEqualTo("최대 재시도 초과");
+        verify(redisTicketService, never()).getTicket("tkt_3");
+    }
+
+    @Test
+    void batchLookupReadsOnlyCacheMissesAndReportsNotFound() {
+        ticketQueryService.cacheIfTerminal(TicketResponse.completed("tkt_4", "AB12CD34"));
+        when(redisTicketService.getTickets(List.of("tkt_5", "tkt_6")))
+                .thenReturn(Map.of("tkt_5", TicketResponse.pending("tkt_5")));
+
+        TicketBatchStatusResponse response = ticketQueryService.getTickets(List.of("tkt_4", "tkt_5", "tkt_6", "tkt_4"));
+
+        assertThat(response.tickets()).extracting(TicketResponse::getTicketId).containsExactly("tkt_4", "tkt_5");
+        assertThat(response.notFound()).containsExactly("tkt_6");
+        verify(redisTicketService).getTickets(List.of("tkt_5", "tkt_6"));
+    }
+}
@@ -0,0 +1,83 @@
+package cloud.coupon.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import cloud.coupon.config.SseProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseConnectionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SseConnectionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties();
+        properties.setMaxConnections(3);
+        properties.setMaxConnectionsPerUser(2);
+        registry = new SseConnectionRegistry(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stopHeartbeats();
+    }
+
+    @Test
+    void rejectsBeyondPerUserCap() {
+        assertThat(registry.tryAcquire("1")).isTrue();
+        assertThat(registry.tryAcquire("1")).isTrue();
+
+        assertThat(registry.tryAcquire("1")).isFalse();
+        assertThat(registry.tryAcquire("2")).isTrue();
+        assertThat(meterRegistry.get("coupon.sse.rejected").tag("reason", "user").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsBeyondNodeCapAndRecoversAfterRelease() {
+        registry.tryAcquire(null);
+        registry.tryAcquire(null);
+        assertThat(registry.tryAcquire("1")).isTrue();
+        Runnable release = registry.track(new SseEmitter(), "1");
+
+        assertThat(registry.tryAcquire(null)).isFalse();
+
+        release.run();
+        release.run(); // 중복 반환은 무시
+        assertThat(meterRegistry.get("coupon.sse.active").gauge().value()).isEqualTo(2);
+        assertThat(registry.tryAcquire(null)).isTrue();
+        assertThat(registry.tryAcquire(null)).isFalse();
+    }
+
+    @Test
+    void blockedPeerDoesNotHoldBackOtherHeartbeats() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        SseEmitter blocked = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            unblock.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(blocked).send(any(SseEmitter.SseEventBuilder.class));
+        SseEmitter healthy = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            delivered.countDown();
+            return null;
+        }).when(healthy).send(any(SseEmitter.SseEventBuilder.class));
+        registry.track(blocked, null);
+        registry.track(healthy, null);
+
+        registry.sendHeartbeats();
+
+        assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+        unblock.countDown();
+    }
+}
@@ -0,0 +1,38 @@
+package cloud.coupon.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloud.coupon.config.SseProperties;
+import org.junit.jupiter.api.Test;
+
+class StreamTokenServiceTest {
+
+    private static StreamTokenService tokenService(String secret, long ttlMs) {
+        SseProperties properties = new SseProperties();
+        properties.setStreamTokenSecret(secret);
+        properties.setStreamTokenTtlMs(ttlMs);
+        return new StreamTokenService(properties);
+    }
+
+    @Test
+    void verifiesTokenIssuedForUser() {
+        StreamTokenService service = tokenService("secret", 60_000);
+
+        assertThat(service.verify(service.issue("7"))).contains("7");
+    }
+
+    @Test
+    void rejectsTokenWithSwappedUserId() {
+        StreamTokenService service = tokenService("secret", 60_000);
+        String token = service.issue("7");
+
+        assertThat(service.verify("8" + token.substring(1))).isEmpty();
+        assertThat(service.verify("not-a-token")).isEmpty();
+    }
+
+    @Test
+    void rejectsExpiredTokenAndTokenFromOtherSecret() {
+        assertThat(tokenService("secret", -1).verify(tokenService("secret", -1).issue("7"))).isEmpty();
+        assertThat(tokenService("secret", 60_000).verify(tokenService("other", 60_000).issue("7"))).isEmpty();
+    }
+}
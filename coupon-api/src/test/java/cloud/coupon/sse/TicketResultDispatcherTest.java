@@ -0,0 +1,94 @@
+package cloud.coupon.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import cloud.coupon.infra.redis.service.RedisTicketService;
+import cloud.coupon.infra.redis.service.RedisTicketService.ResultMessage;
+import cloud.coupon.service.TicketQueryService;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+class TicketResultDispatcherTest {
+
+    private static final String TICKET_ID = "tkt_0123456789ab";
+    private static final String PAYLOAD = "payload";
+
+    private final RedisTicketService redisTicketService = mock(RedisTicketService.class);
+    private final TicketQueryService ticketQueryService = mock(TicketQueryService.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+    private TicketResultDispatcher dispatcher;
+    private TicketLongPollManager longPollManager;
+    private MessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTicketService.getNodeChannelName("node-a")).thenReturn("coupon:result:node:node-a");
+        when(ticketQueryService.getTicket(TICKET_ID)).thenReturn(Optional.of(TicketResponse.pending(TICKET_ID)));
+        dispatcher = new TicketResultDispatcher(redisTicketService, ticketQueryService, listenerContainer,
+                mock(ShardedResultSubscriber.class), new NodeIdentity("node-a"));
+        longPollManager = new TicketLongPollManager(dispatcher, ticketQueryService);
+
+        dispatcher.subscribeResultChannel();
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+        listener = captor.getValue();
+    }
+
+    private void publishResult(TicketResponse ticket) {
+        when(redisTicketService.parseResultMessage(PAYLOAD)).thenReturn(new ResultMessage(TICKET_ID, "7", ticket));
+        listener.onMessage(new DefaultMessage(
+                "coupon:result:node:node-a".getBytes(StandardCharsets.UTF_8),
+                PAYLOAD.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    void deliversResultToEveryConcurrentWaiter() {
+        DeferredResult<ResponseEntity<TicketResponse>> first = longPollManager.await(TICKET_ID, 10_000);
+        DeferredResult<ResponseEntity<TicketResponse>> second = longPollManager.await(TICKET_ID, 10_000);
+
+        publishResult(TicketResponse.completed(TICKET_ID, "AB12CD34"));
+
+        assertThat(responseStatus(first)).isEqualTo(TicketStatus.COMPLETED);
+        assertThat(responseStatus(second)).isEqualTo(TicketStatus.COMPLETED);
+    }
+
+    @Test
+    void unregisteringOneWaiterKeepsTheOther() {
+        TicketResponse[] received = new TicketResponse[2];
+        Consumer<TicketResponse> first = ticket -> received[0] = ticket;
+        Consumer<TicketResponse> second = ticket -> received[1] = ticket;
+        dispatcher.register(TICKET_ID, first);
+        dispatcher.register(TICKET_ID, second);
+
+        // 첫 번째 대기자 timeout: 아직 결과를 받지 않았으므로 해제 성공
+        assertThat(dispatcher.unregister(TICKET_ID, first)).isTrue();
+        publishResult(TicketResponse.failed(TICKET_ID, "재고 소진"));
+
+        assertThat(received[0]).isNull();
+        assertThat(received[1].getStatus()).isEqualTo(TicketStatus.FAILED);
+        // 결과를 받은 뒤에는 해제 대상이 없다
+        assertThat(dispatcher.unregister(TICKET_ID, second)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private TicketStatus responseStatus(DeferredResult<ResponseEntity<TicketResponse>> result) {
+        assertThat(result.hasResult()).isTrue();
+        return ((ResponseEntity<TicketResponse>) result.getResult()).getBody().getStatus();
+    }
+}
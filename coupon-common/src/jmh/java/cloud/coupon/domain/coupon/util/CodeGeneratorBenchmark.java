@@ -0,0 +1,40 @@
+package cloud.coupon.domain.coupon.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 발급 코드 생성 비교 (threads = 8, 병렬 consumer 가정).
+ * -prof gc 로 실행하면 코드당 할당량도 함께 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodeGeneratorBenchmark {
+
+    private final CouponCodeGenerator couponCodeGenerator = new CouponCodeGenerator();
+    private final FeistelCodePermutation permutation = new FeistelCodePermutation(42L);
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Benchmark
+    public String legacyRandomStringUtils() {
+        return RandomStringUtils.randomAlphanumeric(8).toUpperCase();
+    }
+
+    @Benchmark
+    public String threadLocalRandom() {
+        return couponCodeGenerator.generateCode();
+    }
+
+    @Benchmark
+    public String feistelSequence() {
+        return permutation.codeAt(sequence.getAndIncrement() % FeistelCodePermutation.DOMAIN_SIZE);
+    }
+}
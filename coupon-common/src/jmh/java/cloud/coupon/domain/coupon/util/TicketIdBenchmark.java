@@ -0,0 +1,34 @@
+package cloud.coupon.domain.coupon.util;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * ticketId 생성 비교 (threads = 8, 동시 접수 가정).
+ * -prof gc 로 실행하면 ID당 할당량도 함께 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class TicketIdBenchmark {
+
+    private final TicketIdGenerator generator = new TicketIdGenerator(1);
+
+    @Benchmark
+    public String legacyRandomUuid() {
+        return "tkt_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return generator.nextTicketId();
+    }
+}
@@ -0,0 +1,59 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ticket 직렬화 비교: 기존 Jackson JSON 문자열 vs TicketCodec HASH 필드.
+ * -prof gc 로 실행하면 ticket당 할당량도 함께 비교할 수 있다.
+ * Redis 메모리는 같은 ticket을 두 형식으로 저장한 뒤 MEMORY USAGE coupon:ticket:{id}(JSON) / coupon:ticket:h:{id}(HASH) 로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TicketCodecBenchmark {
+
+    private static final String TICKET_ID = "tkt_0123456789ab";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TicketResponse completed = TicketResponse.completed(TICKET_ID, "AB12CD34");
+    private final String completedJson;
+    private final Map<String, String> completedFields = TicketCodec.encode(completed);
+
+    public TicketCodecBenchmark() {
+        try {
+            completedJson = objectMapper.writeValueAsString(completed);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public String jsonEncode() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(completed);
+    }
+
+    @Benchmark
+    public Map<String, String> codecEncode() {
+        return TicketCodec.encode(completed);
+    }
+
+    @Benchmark
+    public TicketResponse jsonDecode() throws JsonProcessingException {
+        return objectMapper.readValue(completedJson, TicketResponse.class);
+    }
+
+    @Benchmark
+    public TicketResponse codecDecode() {
+        return TicketCodec.decode(TICKET_ID, completedFields);
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -55,6 +56,15 @@ public class CouponAdminController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/{couponId}/code-pool")
+    public ResponseEntity<Long> prepareCodePool(
+            @PathVariable Long couponId,
+            @RequestParam long targetSize
+    ) {
+        long poolSize = couponAdminService.prepareCodePool(couponId, targetSize);
+        return ResponseEntity.ok(poolSize);
+    }
+
     @GetMapping("/statistics")
     public ResponseEntity<List<CouponStatusResponse>> getCouponStatistics() {
         List<CouponStatusResponse> statistics = couponAdminService.getCouponStatistics();
@@ -4,6 +4,7 @@ import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_DE
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_DISABLED_ERROR_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_EXISTS_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_USED_ERROR_MESSAGE;
+import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_CODE_POOL_SIZE_ERROR_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_NOT_FOUND_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_NOT_MODIFIABLE_ERROR_MESSAGE;
 
@@ -14,17 +15,23 @@ import cloud.coupon.domain.coupon.admin.dto.response.CouponStatusResponse;
 import cloud.coupon.domain.coupon.entity.Coupon;
 import cloud.coupon.domain.coupon.entity.CouponStatus;
 import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.domain.coupon.util.CodeGenerator;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyDeletedException;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyDisabledException;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyExistException;
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyUsedException;
+import cloud.coupon.global.error.exception.coupon.CouponCodePoolSizeException;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
 import cloud.coupon.global.error.exception.coupon.CouponNotModifiableException;
+import cloud.coupon.infra.redis.service.RedisCodePoolService;
+import cloud.coupon.infra.redis.service.RedisRedemptionService;
 import cloud.coupon.infra.redis.service.RedisStockService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +40,9 @@ public class CouponAdminService {
 
     private final CouponRepository couponRepository;
     private final RedisStockService redisStockService;
+    private final RedisRedemptionService redisRedemptionService;
+    private final RedisCodePoolService redisCodePoolService;
+    private final CodeGenerator couponCodeGenerator;
 
     // 쿠폰 생성 - 데이터 수정 필요
     @Transactional
@@ -41,9 +51,33 @@ public class CouponAdminService {
 
         Coupon savedCoupon = couponRepository.save(request.toEntity());
         redisStockService.initializeStock(request.code(), request.totalStock());
+        redisRedemptionService.unblockCoupon(request.code());
+        prepareCodePoolAfterCommit(request.code(), request.totalStock());
         return CouponResponse.from(savedCoupon);
     }
 
+    // 발급 코드 풀 적재는 재고 크기만큼 Redis I/O가 필요하므로 커밋 후 백그라운드에서 수행 (롤백된 쿠폰은 적재하지 않음)
+    private void prepareCodePoolAfterCommit(String couponCode, long totalStock) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                couponCodeGenerator.prepareAsync(couponCode, totalStock);
+            }
+        });
+    }
+
+    // 발급 코드 풀 보충 (이벤트 직전 재고 증설 등)
+    public long prepareCodePool(Long couponId, long targetSize) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(COUPON_NOT_FOUND_MESSAGE));
+        validateDeletedCoupon(coupon);
+        if (targetSize <= 0 || targetSize > coupon.getTotalStock()) {
+            throw new CouponCodePoolSizeException(COUPON_CODE_POOL_SIZE_ERROR_MESSAGE);
+        }
+        couponCodeGenerator.prepare(coupon.getCode(), targetSize);
+        return redisCodePoolService.poolSize(coupon.getCode());
+    }
+
 
     // 쿠폰 수정 - 데이터 수정 필요
     @Transactional
@@ -69,7 +103,9 @@ public class CouponAdminService {
         coupon.markAsDeleted();
         coupon.changeStatus(CouponStatus.DISABLED);
 
-        redisStockService.removeStockKey(coupon.getCode());
+        // 이벤트 종료: 재고/inflight/issued/code-pool 키 UNLINK
+        redisStockService.removeCouponKeys(coupon.getCode());
+        redisRedemptionService.blockCoupon(coupon.getCode());
     }
 
     // 쿠폰 비활성화 - 데이터 수정 필요
@@ -83,6 +119,7 @@ public class CouponAdminService {
             throw new CouponAlreadyDisabledException(COUPON_ALREADY_DISABLED_ERROR_MESSAGE);
         }
         coupon.changeStatus(CouponStatus.DISABLED);
+        redisRedemptionService.blockCoupon(coupon.getCode());
     }
     // 조회 메서드들은 readOnly 적용
 
@@ -0,0 +1,16 @@
+package cloud.coupon.domain.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coupon.code-pool")
+public class CodePoolProperties {
+    private long secret = 0x5DEECE66DL; // 모든 노드 동일 + 운영 중 변경 금지
+    private int popBatchSize = 100;
+    private int refillChunkSize = 1000;
+}
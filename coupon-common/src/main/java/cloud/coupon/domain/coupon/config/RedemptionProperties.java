@@ -0,0 +1,18 @@
+package cloud.coupon.domain.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * api(XADD)와 consumer(XREADGROUP)가 함께 쓰는 redemption 설정.
+ * Stream 키는 이 한 곳에서만 읽어 두 모듈이 다른 Stream을 보지 않도록 한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coupon.redemption")
+public class RedemptionProperties {
+    private String streamKey = "coupon:use:stream";
+}
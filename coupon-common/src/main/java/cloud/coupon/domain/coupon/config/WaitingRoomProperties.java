@@ -0,0 +1,21 @@
+package cloud.coupon.domain.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coupon.waiting-room")
+public class WaitingRoomProperties {
+    // true면 발급 Lua가 입장 허가(admitted)된 사용자만 접수한다 (api 노드 설정)
+    private boolean enabled = false;
+    // wave당 최대 입장 인원 — consumer 처리량 기준 (실제 입장 수는 남은 재고로 한 번 더 제한)
+    private int waveSize = 500;
+    // wave 주기. 노드 수와 무관하게 클러스터 전체에서 주기당 1회만 입장시킨다
+    private long waveIntervalMs = 1000;
+    // 입장 허가 유효 시간 — 지나도록 발급하지 않으면 자리를 다음 대기자에게 넘긴다
+    private long admissionTtlMs = 60_000;
+}
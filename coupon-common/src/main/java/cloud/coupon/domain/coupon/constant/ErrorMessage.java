@@ -9,6 +9,7 @@ public class ErrorMessage {
     public static final String COUPON_ALREADY_DELETED_ERROR_MESSAGE = "이미 삭제된 쿠폰입니다.";
     public static final String COUPON_ALREADY_DISABLED_ERROR_MESSAGE = "이미 비활성화된 쿠폰입니다.";
     public static final String COUPON_NOT_MODIFIABLE_ERROR_MESSAGE = "비활성화 된 쿠폰은 수정/삭제할 수 없습니다";
+    public static final String COUPON_CODE_POOL_SIZE_ERROR_MESSAGE = "발급 코드 풀 크기는 1 이상, 쿠폰 총 재고 이하여야 합니다.";
 
     private ErrorMessage() {
     }
@@ -4,10 +4,15 @@ import cloud.coupon.domain.coupon.entity.Coupon;
 import cloud.coupon.domain.coupon.entity.CouponType;
 import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
 import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.domain.coupon.util.CodeGenerator;
 import cloud.coupon.domain.history.repository.CouponIssueHistoryRepository;
+import cloud.coupon.infra.redis.service.RedisKeyCleaner;
+import cloud.coupon.infra.redis.service.RedisKeyCleaner.CleanupJob;
 import cloud.coupon.infra.redis.service.RedisStockService;
 import cloud.coupon.infra.redis.service.RedisStreamService;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +21,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -38,6 +45,8 @@ public class LoadTestAdminController {
     private final CouponIssueHistoryRepository couponIssueHistoryRepository;
     private final RedisStockService redisStockService;
     private final RedisStreamService redisStreamService;
+    private final CodeGenerator couponCodeGenerator;
+    private final RedisKeyCleaner redisKeyCleaner;
 
     public record SetupRequest(
             String couponCode,
@@ -49,6 +58,8 @@ public class LoadTestAdminController {
 
     public record ResetRequest(String couponCode, int totalStock) {}
 
+    public record CleanupRequest(List<String> patterns) {}
+
     @Transactional
     @PostMapping("/setup")
     public ResponseEntity<Map<String, Object>> setup(@RequestBody SetupRequest request) {
@@ -206,6 +217,8 @@ public class LoadTestAdminController {
                 couponRepository.delete(coupon);
             });
 
+            // 이전 teardown의 백그라운드 정리가 새 키를 지우지 않도록 먼저 중단
+            redisKeyCleaner.cancelAllAndAwait(Duration.ofSeconds(10));
             // Phase 3 Redis 키 전체 정리 (stock + inflight + issued + ticket)
             redisStockService.deleteAllPhase3Keys();
             clearPhase3StreamState();
@@ -224,6 +237,7 @@ public class LoadTestAdminController {
 
             couponRepository.save(coupon);
             redisStockService.initializeStock(request.couponCode(), request.totalStock());
+            couponCodeGenerator.prepare(request.couponCode(), request.totalStock());
             recreatePhase3ConsumerGroup(request.couponCode());
         } catch (RuntimeException e) {
             if (!redisStockService.releasePhase3AdminLock(request.couponCode())) {
@@ -310,14 +324,43 @@ public class LoadTestAdminController {
             couponRepository.delete(coupon);
         });
 
-        redisStockService.deleteAllPhase3Keys();
-        clearPhase3StreamState();
+        // 대상 쿠폰 키만 UNLINK — 다른 쿠폰 키/Stream은 건드리지 않는다 (전체 정리는 다음 setup-phase3가 잠금 아래에서 수행)
+        redisStockService.removeCouponKeys(request.couponCode());
         releasePhase3AdminLockOrThrow(request.couponCode());
 
         log.info("[LoadTest-Phase3] 정리 완료 | code: {}", request.couponCode());
         return ResponseEntity.ok(Map.of("status", "OK"));
     }
 
+    @PostMapping("/cleanup-jobs")
+    public ResponseEntity<Map<String, Object>> submitCleanup(@RequestBody CleanupRequest request) {
+        if (request.patterns() == null || request.patterns().isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "patterns is required"));
+        }
+        CleanupJob job = redisKeyCleaner.submit(request.patterns().toArray(String[]::new));
+        return ResponseEntity.accepted().body(job.toSummary());
+    }
+
+    @GetMapping("/cleanup-jobs")
+    public ResponseEntity<List<Map<String, Object>>> getCleanupJobs() {
+        return ResponseEntity.ok(redisKeyCleaner.getJobs().stream().map(CleanupJob::toSummary).toList());
+    }
+
+    @GetMapping("/cleanup-jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getCleanupJob(@PathVariable String jobId) {
+        return redisKeyCleaner.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toSummary()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/cleanup-jobs/{jobId}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelCleanupJob(@PathVariable String jobId) {
+        if (!redisKeyCleaner.cancel(jobId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("status", "CANCELLING", "jobId", jobId));
+    }
+
     private ResponseEntity<Map<String, Object>> phase3LockConflict(String action, String requestedCouponCode,
                                                                    String activeCouponCode) {
         String message = activeCouponCode == null
@@ -336,8 +379,8 @@ public class LoadTestAdminController {
 
     private void clearPhase3StreamState() {
         try {
-            redisStockService.getRedisTemplate().delete(PHASE3_STREAM_KEY);
-            redisStockService.getRedisTemplate().delete(PHASE3_DLQ_KEY);
+            // 긴 stream도 UNLINK로 백그라운드 해제
+            redisKeyCleaner.unlink(List.of(PHASE3_STREAM_KEY, PHASE3_DLQ_KEY));
         } catch (Exception e) {
             throw new IllegalStateException("[LoadTest-Phase3] Stream/DLQ 정리 실패", e);
         }
@@ -12,4 +12,14 @@ public record CouponIssueRequest(
     public CouponIssueRequest(String code, Long userId, String requestIp) {
         this(code, userId, requestIp, null);
     }
+
+    /**
+     * requestIp가 비어 있으면 서버가 본 접속 주소로 채운다 — 비워 보내는 것으로 IP 한도를 건너뛰지 못하게
+     */
+    public CouponIssueRequest withRemoteAddrIfIpMissing(String remoteAddr) {
+        if (requestIp != null && !requestIp.isBlank()) {
+            return this;
+        }
+        return new CouponIssueRequest(code, userId, remoteAddr, serverReceivedAtNanos);
+    }
 }
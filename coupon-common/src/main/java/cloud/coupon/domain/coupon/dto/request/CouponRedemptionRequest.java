@@ -0,0 +1,12 @@
+package cloud.coupon.domain.coupon.dto.request;
+
+import java.time.LocalDateTime;
+
+// Redis에서 사용 처리된 redemption 이벤트 (coupon:use:stream 레코드)
+public record CouponRedemptionRequest(
+        String issuedCode,
+        Long userId,
+        String couponCode,
+        LocalDateTime usedAt
+) {
+}
@@ -0,0 +1,12 @@
+package cloud.coupon.domain.coupon.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TicketBatchStatusRequest(
+        @NotEmpty @Size(max = MAX_TICKETS) List<@NotBlank String> ticketIds
+) {
+    public static final int MAX_TICKETS = 100;
+}
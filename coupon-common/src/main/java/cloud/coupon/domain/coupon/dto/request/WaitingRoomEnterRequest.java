@@ -0,0 +1,10 @@
+package cloud.coupon.domain.coupon.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record WaitingRoomEnterRequest(
+        @NotBlank String code,
+        @NotNull Long userId
+) {
+}
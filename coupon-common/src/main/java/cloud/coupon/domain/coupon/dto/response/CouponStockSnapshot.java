@@ -0,0 +1,4 @@
+package cloud.coupon.domain.coupon.dto.response;
+
+public record CouponStockSnapshot(Long id, String code, int remainStock) {
+}
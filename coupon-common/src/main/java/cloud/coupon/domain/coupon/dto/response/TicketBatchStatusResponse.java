@@ -0,0 +1,9 @@
+package cloud.coupon.domain.coupon.dto.response;
+
+import java.util.List;
+
+public record TicketBatchStatusResponse(
+        List<TicketResponse> tickets,
+        List<String> notFound
+) {
+}
@@ -17,6 +17,7 @@ public class TicketResponse {
     private String issuedCode;
     private String message;
     private String subscribeUrl;
+    private String streamToken;
 
     public static TicketResponse pending(String ticketId) {
         return TicketResponse.builder()
@@ -26,12 +27,24 @@ public class TicketResponse {
                 .build();
     }
 
+    /**
+     * 접수 응답: 사용자 통합 스트림(/api/v2/coupons/subscribe?token=) 구독용 서명 토큰을 함께 싣는다.
+     */
+    public static TicketResponse accepted(String ticketId, String streamToken) {
+        return TicketResponse.builder()
+                .ticketId(ticketId)
+                .status(TicketStatus.PENDING)
+                .subscribeUrl("/api/v2/coupons/subscribe/" + ticketId)
+                .streamToken(streamToken)
+                .build();
+    }
+
     public static TicketResponse completed(String ticketId, String issuedCode) {
         return TicketResponse.builder()
                 .ticketId(ticketId)
                 .status(TicketStatus.COMPLETED)
                 .issuedCode(issuedCode)
-                .message("쿠폰이 발급되었습니다.")
+                .message(TicketStatus.COMPLETED.getDefaultMessage())
                 .build();
     }
 
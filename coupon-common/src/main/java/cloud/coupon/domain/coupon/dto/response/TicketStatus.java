@@ -1,8 +1,28 @@
 package cloud.coupon.domain.coupon.dto.response;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * code: Redis ticket 저장용 1글자 코드, defaultMessage: 저장하지 않고 조회 시 복원하는 기본 메시지
+ */
+@Getter
+@RequiredArgsConstructor
 public enum TicketStatus {
-    PENDING,
-    COMPLETED,
-    FAILED,
-    TIMEOUT
+    PENDING("P", null),
+    COMPLETED("C", "쿠폰이 발급되었습니다."),
+    FAILED("F", "쿠폰 발급에 실패했습니다."),
+    TIMEOUT("T", "처리 시간이 초과되었습니다. /status API로 결과를 확인해주세요.");
+
+    private final String code;
+    private final String defaultMessage;
+
+    public static TicketStatus fromCode(String code) {
+        for (TicketStatus status : values()) {
+            if (status.code.equals(code)) {
+                return status;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,14 @@
+package cloud.coupon.domain.coupon.dto.response;
+
+/**
+ * position: 대기열 순번 (1부터, 입장 허가 시 0)
+ * estimatedWaitMs: 현재 wave 크기·주기 기준 예상 대기 시간 (재고 제한으로 늦어질 수 있다)
+ */
+public record WaitingRoomResponse(
+        String code,
+        Long userId,
+        WaitingRoomStatus status,
+        long position,
+        long estimatedWaitMs
+) {
+}
@@ -0,0 +1,6 @@
+package cloud.coupon.domain.coupon.dto.response;
+
+public enum WaitingRoomStatus {
+    WAITING,
+    ADMITTED
+}
@@ -28,7 +28,7 @@ public class Coupon {
     private String code; //템플릿 코드
     private Integer totalStock; // 총 재고 수량
     private Integer remainStock; //발급 가능한 수
-    private Integer usedCount; //사용된 수량
+    private Integer usedCount; //사용된 수량 (Redis 카운터에서 비동기 집계)
 
     @Enumerated(EnumType.STRING)
     private CouponType type;
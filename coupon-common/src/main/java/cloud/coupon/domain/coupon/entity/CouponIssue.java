@@ -1,6 +1,7 @@
 package cloud.coupon.domain.coupon.entity;
 
 import cloud.coupon.global.error.exception.coupon.CouponAlreadyUsedException;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -8,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,10 +22,19 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(
-    uniqueConstraints = @UniqueConstraint(
-        name = "uk_coupon_issue_coupon_user",
-        columnNames = {"coupon_id", "user_id"}
-    )
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_coupon_issue_coupon_user",
+            columnNames = {"coupon_id", "user_id"}
+        ),
+        // 중복 발급 체크를 coupon join 없이 인덱스만으로 처리
+        @UniqueConstraint(
+            name = "uk_coupon_issue_code_user",
+            columnNames = {"coupon_code", "user_id"}
+        )
+    },
+    // redemption batch 반영 / 코드 풀 중복 제외가 issued_code IN 조회를 한다
+    indexes = @Index(name = "idx_coupon_issue_issued_code", columnList = "issued_code")
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -36,6 +47,9 @@ public class CouponIssue {
     @JoinColumn(name = "coupon_id")
     private Coupon coupon;
 
+    @Column(name = "coupon_code")
+    private String couponCode; //쿠폰 템플릿 코드 (coupon.code 비정규화)
+
     private Long userId;
     private String issuedCode; //발급된 고유 쿠폰 코드
     private boolean used;
@@ -48,6 +62,7 @@ public class CouponIssue {
     @Builder
     public CouponIssue(Coupon coupon, Long userId, String issuedCode) {
         this.coupon = coupon;
+        this.couponCode = coupon.getCode();
         this.userId = userId;
         this.issuedCode = issuedCode;
         this.used = false;
@@ -60,7 +75,17 @@ public class CouponIssue {
         this.used = true;
         this.usedAt = LocalDateTime.now();
         this.status = CouponIssueStatus.USED;
-        coupon.increaseUsedCount();
+    }
+
+    // Redis redemption 경로: 사용 검증은 Lua에서 끝났으므로 상태만 반영. 이미 반영된 경우 false
+    public boolean applyRedemption(LocalDateTime usedAt) {
+        if (used) {
+            return false;
+        }
+        this.used = true;
+        this.usedAt = usedAt;
+        this.status = CouponIssueStatus.USED;
+        return true;
     }
 
     private void validateForUse() {
@@ -2,9 +2,14 @@ package cloud.coupon.domain.coupon.repository;
 
 import cloud.coupon.domain.coupon.entity.CouponIssue;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,14 +17,36 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface CouponIssueRepository extends JpaRepository<CouponIssue, Long> {
-    boolean existsByCouponCodeAndUserId(String code, Long userId); //중복 발급 체크
+    //중복 발급 체크 — coupon_issue.coupon_code 기준 (uk_coupon_issue_code_user 인덱스만 사용)
+    @Query("SELECT EXISTS (SELECT 1 FROM CouponIssue ci WHERE ci.couponCode = :code AND ci.userId = :userId)")
+    boolean existsByCouponCodeAndUserId(@Param("code") String code, @Param("userId") Long userId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<CouponIssue> findByIssuedCodeAndUserId(String code, Long userId); // 발급된 쿠폰 조회 (쓰기 락)
 
     Optional<CouponIssue> findOneByIssuedCodeAndUserId(String issuedCode, Long userId); // 발급된 쿠폰 조회 (락 없음, 테스트용)
 
-    int countByCouponCode(String code);
+    @Query("SELECT ci FROM CouponIssue ci JOIN FETCH ci.coupon WHERE ci.issuedCode IN :issuedCodes")
+    List<CouponIssue> findAllByIssuedCodeIn(@Param("issuedCodes") Collection<String> issuedCodes); // redemption batch 반영
 
-    void deleteByCouponId(Long couponId);
+    @Query("SELECT ci.issuedCode FROM CouponIssue ci WHERE ci.issuedCode IN :issuedCodes")
+    List<String> findIssuedCodesIn(@Param("issuedCodes") Collection<String> issuedCodes); // 풀 코드 중복 제외
+
+    @Query("SELECT COUNT(ci) FROM CouponIssue ci WHERE ci.couponCode = :code")
+    int countByCouponCode(@Param("code") String code);
+
+    // coupon_code 컬럼 추가 이전 행 backfill (batch 단위, 0 반환 시 완료)
+    @Modifying
+    @Query(value = """
+            UPDATE coupon_issue
+            SET coupon_code = (SELECT c.code FROM coupon c WHERE c.id = coupon_issue.coupon_id)
+            WHERE coupon_code IS NULL
+              AND EXISTS (SELECT 1 FROM coupon c WHERE c.id = coupon_issue.coupon_id)
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    int backfillCouponCode(@Param("batchSize") int batchSize);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CouponIssue ci WHERE ci.coupon.id = :couponId")
+    int deleteByCouponId(@Param("couponId") Long couponId);
 }
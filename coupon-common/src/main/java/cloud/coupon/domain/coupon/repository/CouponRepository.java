@@ -1,10 +1,13 @@
 package cloud.coupon.domain.coupon.repository;
 
+import cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot;
 import cloud.coupon.domain.coupon.entity.Coupon;
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -32,6 +35,22 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     @Query("SELECT c FROM Coupon c WHERE c.status = 'ACTIVE' AND c.isDeleted = false")
     List<Coupon> findAllActiveCoupons();
 
+    @Query("""
+            SELECT new cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot(c.id, c.code, c.remainStock)
+            FROM Coupon c
+            WHERE c.code IN :codes AND c.status = 'ACTIVE' AND c.isDeleted = false
+            """)
+    List<CouponStockSnapshot> findActiveStockSnapshots(@Param("codes") Collection<String> codes);
+
+    // 시작 warm-up용 keyset 페이지 (엔티티 전체를 한 번에 올리지 않음)
+    @Query("""
+            SELECT new cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot(c.id, c.code, c.remainStock)
+            FROM Coupon c
+            WHERE c.id > :lastId AND c.status = 'ACTIVE' AND c.isDeleted = false
+            ORDER BY c.id
+            """)
+    List<CouponStockSnapshot> findActiveStockSnapshotsAfter(@Param("lastId") long lastId, Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = """
             UPDATE coupon
@@ -47,4 +66,14 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
               AND end_time >= :now
             """, nativeQuery = true)
     int decreaseRemainStockAtomically(@Param("code") String code, @Param("now") LocalDateTime now);
+
+    // 비동기 집계된 사용 수량 반영 (UsedCountFlushScheduler)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            UPDATE coupon
+            SET used_count = used_count + :delta
+            WHERE code = :code
+              AND is_deleted = false
+            """, nativeQuery = true)
+    int increaseUsedCount(@Param("code") String code, @Param("delta") long delta);
 }
@@ -13,11 +13,15 @@ import cloud.coupon.domain.history.service.CouponIssueHistoryService;
 import cloud.coupon.global.error.exception.coupon.CouponNotAvailableException;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
 import cloud.coupon.global.error.exception.coupon.CouponOutOfStockException;
+import cloud.coupon.infra.redis.service.RedisRedemptionService;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -28,6 +32,10 @@ public class CouponIssuancePersistenceService {
     private final CouponIssueRepository couponIssueRepository;
     private final CouponIssueHistoryService couponIssueHistoryService;
     private final CodeGenerator couponCodeGenerator;
+    private final RedisRedemptionService redisRedemptionService;
+
+    @Value("${coupon.redemption.redis-enabled:false}")
+    private boolean redisRedemptionEnabled;
 
     /**
      * Redis가 재고를 예약한 후 호출되는 DB 트랜잭션.
@@ -55,13 +63,14 @@ public class CouponIssuancePersistenceService {
         }
 
         // 4. CouponIssue saveAndFlush — 유니크 제약(coupon_id + user_id) 위반 즉시 드러냄
-        String issuedCode = couponCodeGenerator.generateCode();
+        String issuedCode = couponCodeGenerator.generateCode(coupon.getCode());
         CouponIssue couponIssue = CouponIssue.builder()
                 .coupon(coupon)
                 .userId(request.userId())
                 .issuedCode(issuedCode)
                 .build();
         couponIssueRepository.saveAndFlush(couponIssue);
+        registerRedemptionAfterCommit(couponIssue);
 
         // 5. 성공 history 저장 (같은 트랜잭션)
         couponIssueHistoryService.saveSuccessHistory(request.code(), request.userId(), request.requestIp(), request.serverReceivedAtNanos());
@@ -82,14 +91,15 @@ public class CouponIssuancePersistenceService {
         coupon.issue();
 
         // CouponIssue 저장
-        String issuedCode = couponCodeGenerator.generateCode();
-        couponIssueRepository.save(
+        String issuedCode = couponCodeGenerator.generateCode(coupon.getCode());
+        CouponIssue couponIssue = couponIssueRepository.save(
                 CouponIssue.builder()
                         .coupon(coupon)
                         .userId(request.userId())
                         .issuedCode(issuedCode)
                         .build()
         );
+        registerRedemptionAfterCommit(couponIssue);
 
         // 성공 history 저장
         couponIssueHistoryService.saveSuccessHistory(request.code(), request.userId(), request.requestIp(), request.serverReceivedAtNanos());
@@ -97,4 +107,31 @@ public class CouponIssuancePersistenceService {
         log.info("[{}]: DB-only 발급 완료 | userId: {} issuedCode: {}", request.code(), request.userId(), issuedCode);
         return CouponIssueResult.success(issuedCode);
     }
+
+    /**
+     * Redis redemption 모드: 커밋된 발급분만 사용 대상으로 등록한다.
+     * 등록 실패 시 해당 issuedCode는 사용 시 DB 경로로 처리되므로 발급 결과에는 영향을 주지 않는다.
+     */
+    private void registerRedemptionAfterCommit(CouponIssue couponIssue) {
+        if (!redisRedemptionEnabled) {
+            return;
+        }
+        Coupon coupon = couponIssue.getCoupon();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    redisRedemptionService.registerIssuedCode(
+                            couponIssue.getIssuedCode(),
+                            couponIssue.getUserId(),
+                            coupon.getCode(),
+                            coupon.getDiscountValue(),
+                            coupon.getExpireTime());
+                } catch (Exception e) {
+                    log.error("[{}]: redemption 등록 실패 | issuedCode: {} | 원인: {}",
+                            coupon.getCode(), couponIssue.getIssuedCode(), e.getMessage());
+                }
+            }
+        });
+    }
 }
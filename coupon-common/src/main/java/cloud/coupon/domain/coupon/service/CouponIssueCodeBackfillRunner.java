@@ -0,0 +1,41 @@
+package cloud.coupon.domain.coupon.service;
+
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * coupon_issue.coupon_code 컬럼 도입 이전에 저장된 행을 coupon.code로 채우는 1회성 migration.
+ * batch 단위 트랜잭션으로 나눠 실행해 긴 row lock을 만들지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.migration.issue-code-backfill-enabled", havingValue = "true")
+public class CouponIssueCodeBackfillRunner implements ApplicationRunner {
+
+    private final CouponIssueRepository couponIssueRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coupon.migration.issue-code-backfill-batch-size:5000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> couponIssueRepository.backfillCouponCode(batchSize));
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+        }
+        log.info("[Migration] coupon_issue.coupon_code backfill 완료 | updated: {}", total);
+    }
+}
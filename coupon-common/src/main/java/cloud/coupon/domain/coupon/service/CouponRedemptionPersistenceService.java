@@ -0,0 +1,143 @@
+package cloud.coupon.domain.coupon.service;
+
+import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ISSUE_NOT_FOUND_MESSAGE;
+
+import cloud.coupon.domain.coupon.dto.request.CouponRedemptionRequest;
+import cloud.coupon.domain.coupon.dto.response.CouponUseResponse;
+import cloud.coupon.domain.coupon.entity.CouponIssue;
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.domain.history.entity.CouponUseHistory;
+import cloud.coupon.domain.history.repository.CouponUseHistoryRepository;
+import cloud.coupon.global.error.exception.couponissue.CouponIssueNotFoundException;
+import cloud.coupon.infra.redis.service.RedisUsedCountService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponRedemptionPersistenceService {
+
+    private final CouponIssueRepository couponIssueRepository;
+    private final CouponUseHistoryRepository couponUseHistoryRepository;
+    private final RedisUsedCountService redisUsedCountService;
+    private final CouponRepository couponRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * DB 경로: CouponIssue 비관적 락 + use() + CouponUseHistory 저장.
+     */
+    @Transactional
+    public CouponUseResponse useWithDbLock(Long userId, String issueCode) {
+        CouponIssue couponIssue = couponIssueRepository.findByIssuedCodeAndUserId(issueCode, userId)
+                .orElseThrow(() -> new CouponIssueNotFoundException(COUPON_ISSUE_NOT_FOUND_MESSAGE));
+        couponIssue.use();
+
+        CouponUseHistory useHistory = couponUseHistoryRepository.save(createUseHistory(couponIssue));
+        increaseUsedCountAfterCommit(Map.of(couponIssue.getCouponCode(), 1L));
+
+        return new CouponUseResponse(
+                true,
+                useHistory.getDiscountValue(),
+                useHistory.getUsedAt()
+        );
+    }
+
+    /**
+     * Redis에서 사용 처리된 redemption batch를 한 트랜잭션으로 반영.
+     * 재전달된 이벤트(이미 USED)는 건너뛰어 멱등하게 처리한다.
+     * 반환값: 이번 batch에서 새로 반영된 건수
+     */
+    @Transactional
+    public int persistRedemptions(List<CouponRedemptionRequest> requests) {
+        List<String> issuedCodes = requests.stream().map(CouponRedemptionRequest::issuedCode).toList();
+        Map<String, CouponIssue> issues = couponIssueRepository.findAllByIssuedCodeIn(issuedCodes).stream()
+                .collect(Collectors.toMap(
+                        issue -> redemptionKey(issue.getIssuedCode(), issue.getUserId()),
+                        Function.identity(),
+                        (first, second) -> first));
+
+        List<CouponUseHistory> histories = new ArrayList<>();
+        Map<String, Long> usedCounts = new HashMap<>();
+        for (CouponRedemptionRequest request : requests) {
+            CouponIssue couponIssue = issues.get(redemptionKey(request.issuedCode(), request.userId()));
+            if (couponIssue == null) {
+                log.warn("[{}]: redemption 대상 발급 내역 없음 | userId: {}", request.issuedCode(), request.userId());
+                continue;
+            }
+            if (!couponIssue.applyRedemption(request.usedAt())) {
+                continue;
+            }
+            histories.add(createUseHistory(couponIssue));
+            usedCounts.merge(couponIssue.getCouponCode(), 1L, Long::sum);
+        }
+
+        couponUseHistoryRepository.saveAll(histories);
+        increaseUsedCountAfterCommit(usedCounts);
+        return histories.size();
+    }
+
+    private CouponUseHistory createUseHistory(CouponIssue couponIssue) {
+        return CouponUseHistory.builder()
+                .couponIssue(couponIssue)
+                .userId(couponIssue.getUserId())
+                .discountType(couponIssue.getCoupon().getType())
+                .discountValue(couponIssue.getCoupon().getDiscountValue())
+                .usedAt(couponIssue.getUsedAt())
+                .build();
+    }
+
+    /**
+     * Coupon.usedCount는 사용 트랜잭션에서 갱신하지 않는다 (인기 쿠폰 row lock 직렬화 방지).
+     * 커밋 이후에만 Redis 카운터를 올려 롤백된 사용이 집계되지 않게 한다.
+     * Redis 증가가 실패하면 새 트랜잭션으로 Coupon.usedCount를 직접 올린다 (장애 시에만 row lock 경로).
+     */
+    private void increaseUsedCountAfterCommit(Map<String, Long> usedCounts) {
+        if (usedCounts.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                usedCounts.forEach((couponCode, delta) -> {
+                    try {
+                        redisUsedCountService.increaseUsedCount(couponCode, delta);
+                    } catch (Exception e) {
+                        log.warn("[{}]: 사용 수량 카운터 증가 실패, DB 직접 반영 | delta: {} | 원인: {}", couponCode, delta, e.getMessage());
+                        increaseUsedCountInDb(couponCode, delta);
+                    }
+                });
+            }
+        });
+    }
+
+    // afterCommit에서는 기존 트랜잭션이 끝났으므로 REQUIRES_NEW로 별도 트랜잭션을 연다
+    private void increaseUsedCountInDb(String couponCode, long delta) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status -> couponRepository.increaseUsedCount(couponCode, delta));
+        } catch (Exception e) {
+            log.error("[{}]: 사용 수량 DB 반영 실패 — usedCount 수동 보정 필요 | delta: {} | 원인: {}",
+                    couponCode, delta, e.getMessage());
+        }
+    }
+
+    private static String redemptionKey(String issuedCode, Long userId) {
+        return issuedCode + ":" + userId;
+    }
+}
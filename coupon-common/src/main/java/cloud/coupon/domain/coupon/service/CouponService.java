@@ -1,24 +1,27 @@
 package cloud.coupon.domain.coupon.service;
 
+import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ALREADY_USED_ERROR_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_DUPLICATE_ERROR_MESSAGE;
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_ISSUE_NOT_FOUND_MESSAGE;
 
 import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
 import cloud.coupon.domain.coupon.dto.response.CouponIssueResult;
 import cloud.coupon.domain.coupon.dto.response.CouponUseResponse;
-import cloud.coupon.domain.coupon.entity.CouponIssue;
 import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
 import cloud.coupon.domain.coupon.repository.CouponRepository;
 import cloud.coupon.domain.coupon.service.strategy.CouponIssuanceStrategy;
 import cloud.coupon.domain.history.service.CouponIssueHistoryService;
-import cloud.coupon.domain.history.entity.CouponUseHistory;
-import cloud.coupon.domain.history.repository.CouponUseHistoryRepository;
+import cloud.coupon.global.error.exception.coupon.CouponAlreadyUsedException;
+import cloud.coupon.global.error.exception.coupon.CouponNotAvailableException;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
 import cloud.coupon.global.error.exception.coupon.DuplicateCouponException;
 import cloud.coupon.global.error.exception.couponissue.CouponIssueNotFoundException;
+import cloud.coupon.infra.redis.service.RedisRedemptionService;
+import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,10 +35,14 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final CouponIssueRepository couponIssueRepository;
-    private final CouponUseHistoryRepository couponUseHistoryRepository;
     private final CouponIssuanceStrategy issuanceStrategy;
     private final CouponIssuancePersistenceService couponIssuancePersistenceService;
     private final CouponIssueHistoryService couponIssueHistoryService;
+    private final CouponRedemptionPersistenceService couponRedemptionPersistenceService;
+    private final RedisRedemptionService redisRedemptionService;
+
+    @Value("${coupon.redemption.redis-enabled:false}")
+    private boolean redisRedemptionEnabled;
 
     // 쿠폰 발급 — 오케스트레이터 (트랜잭션 없음: Redis·DB 경로 각각 자체 트랜잭션)
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
@@ -127,24 +134,27 @@ public class CouponService {
         }
     }
 
-    // 쿠폰 사용
-    @Transactional
+    /**
+     * 쿠폰 사용 — 오케스트레이터 (트랜잭션 없음).
+     * redis-enabled 모드에서는 Redis Lua로 사용 처리 후 Stream에 적재하고 즉시 응답한다 (DB 반영은 consumer).
+     * Redis에 등록되지 않은 issuedCode(모드 활성화 이전 발급분 등)는 DB 비관적 락 경로로 처리한다.
+     */
+    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
     public CouponUseResponse useCoupon(Long userId, String issueCode) {
         log.debug("[{}]: 쿠폰 사용 시도 시작 | userId: {}", issueCode, userId);
 
         try {
-            CouponIssue couponIssue = findCouponIssue(userId, issueCode);
-            couponIssue.use();
-
-            CouponUseHistory useHistory = createAndSaveUseHistory(userId, couponIssue);
+            if (redisRedemptionEnabled) {
+                CouponUseResponse redeemed = redeemWithRedis(userId, issueCode);
+                if (redeemed != null) {
+                    log.debug("[{}]: 쿠폰 사용 접수 (Redis) | userId: {}", issueCode, userId);
+                    return redeemed;
+                }
+            }
 
+            CouponUseResponse response = couponRedemptionPersistenceService.useWithDbLock(userId, issueCode);
             log.debug("[{}]: 쿠폰 사용 성공 | userId: {}", issueCode, userId);
-
-            return new CouponUseResponse(
-                    true,
-                    useHistory.getDiscountValue(),
-                    useHistory.getUsedAt()
-            );
+            return response;
         } catch (Exception e) {
             log.error("[{}]: 쿠폰 사용 실패 | userId: {} | 원인: {}",
                     issueCode, userId, e.getMessage());
@@ -152,20 +162,23 @@ public class CouponService {
         }
     }
 
-    private CouponIssue findCouponIssue(Long userId, String issueCode) {
-        return couponIssueRepository.findByIssuedCodeAndUserId(issueCode, userId)
-                .orElseThrow(() -> new CouponIssueNotFoundException(COUPON_ISSUE_NOT_FOUND_MESSAGE));
-    }
-
-    private CouponUseHistory createAndSaveUseHistory(Long userId, CouponIssue couponIssue) {
-        CouponUseHistory useHistory = CouponUseHistory.builder()
-                .couponIssue(couponIssue)
-                .userId(userId)
-                .discountType(couponIssue.getCoupon().getType())
-                .discountValue(couponIssue.getCoupon().getDiscountValue())
-                .usedAt(couponIssue.getUsedAt())
-                .build();
+    // 반환값 null: Redis 미등록 → DB 경로로 처리
+    private CouponUseResponse redeemWithRedis(Long userId, String issueCode) {
+        LocalDateTime usedAt = LocalDateTime.now();
+        long result = redisRedemptionService.redeemAtomically(issueCode, userId, usedAt);
 
-        return couponUseHistoryRepository.save(useHistory);
+        if (result == RedisRedemptionService.RESULT_NOT_REGISTERED) {
+            return null;
+        }
+        if (result == RedisRedemptionService.RESULT_OWNER_MISMATCH) {
+            throw new CouponIssueNotFoundException(COUPON_ISSUE_NOT_FOUND_MESSAGE);
+        }
+        if (result == RedisRedemptionService.RESULT_ALREADY_USED) {
+            throw new CouponAlreadyUsedException(COUPON_ALREADY_USED_ERROR_MESSAGE);
+        }
+        if (result == RedisRedemptionService.RESULT_NOT_AVAILABLE) {
+            throw new CouponNotAvailableException("사용 불가능한 쿠폰입니다.");
+        }
+        return new CouponUseResponse(true, (int) result, usedAt);
     }
 }
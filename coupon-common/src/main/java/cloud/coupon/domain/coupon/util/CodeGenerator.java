@@ -2,4 +2,17 @@ package cloud.coupon.domain.coupon.util;
 
 public interface CodeGenerator {
     String generateCode();
+
+    // 쿠폰별 사전 생성 풀을 쓰는 구현만 override
+    default String generateCode(String couponCode) {
+        return generateCode();
+    }
+
+    // 이벤트 전 expectedCount만큼 코드 준비 (필요 없는 구현은 no-op)
+    default void prepare(String couponCode, long expectedCount) {
+    }
+
+    // prepare를 백그라운드에서 수행 (쿠폰 생성 요청이 풀 적재를 기다리지 않도록)
+    default void prepareAsync(String couponCode, long expectedCount) {
+    }
 }
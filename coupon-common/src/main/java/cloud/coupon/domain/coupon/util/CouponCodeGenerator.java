@@ -1,13 +1,17 @@
 package cloud.coupon.domain.coupon.util;
 
-import org.apache.commons.lang3.RandomStringUtils;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "coupon.code-generator", havingValue = "random", matchIfMissing = true)
 public class CouponCodeGenerator implements CodeGenerator {
     @Override
     public String generateCode() {
         //대문자 영문 + 숫자 조합으로 8자리 생성 ex) KB9MP4NQ
-        return RandomStringUtils.randomAlphanumeric(8).toUpperCase();
+        // 스레드별 난수원에서 36^8 범위 값 1개를 뽑아 char[8]에 바로 인코딩 (공유 Random 경합, 중간 문자열 없음)
+        long value = ThreadLocalRandom.current().nextLong(FeistelCodePermutation.DOMAIN_SIZE);
+        return FeistelCodePermutation.encode(value);
     }
 }
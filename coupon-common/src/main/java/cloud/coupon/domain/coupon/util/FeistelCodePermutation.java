@@ -0,0 +1,72 @@
+package cloud.coupon.domain.coupon.util;
+
+/**
+ * 순번(index) → 8자리 대문자+숫자 코드로의 keyed permutation.
+ * 36^8 공간을 42bit Feistel 네트워크 + cycle walking으로 일대일 대응시키므로
+ * 서로 다른 순번은 항상 서로 다른 코드가 된다 (재시도 없는 유일성 보장).
+ * secret이 바뀌면 이전에 발급된 코드와의 유일성이 깨지므로 운영 중에는 고정해야 한다.
+ */
+public final class FeistelCodePermutation {
+
+    public static final int CODE_LENGTH = 8;
+    public static final long DOMAIN_SIZE = 2_821_109_907_456L; // 36^8
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final int RADIX = ALPHABET.length;
+    private static final int HALF_BITS = 21; // 2^42 >= 36^8
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public FeistelCodePermutation(long secret) {
+        long state = secret;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix64(state);
+        }
+    }
+
+    public String codeAt(long index) {
+        return encode(permute(index));
+    }
+
+    public long permute(long index) {
+        if (index < 0 || index >= DOMAIN_SIZE) {
+            throw new IllegalArgumentException("코드 순번이 범위를 벗어났습니다: " + index);
+        }
+        // 42bit 공간에서의 순열 결과가 36^8 밖이면 다시 암호화 (cycle walking)
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= DOMAIN_SIZE);
+        return value;
+    }
+
+    public static String encode(long value) {
+        char[] buffer = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            buffer[i] = ALPHABET[(int) (value % RADIX)];
+            value /= RADIX;
+        }
+        return new String(buffer);
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix64(right ^ roundKey) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,116 @@
+package cloud.coupon.domain.coupon.util;
+
+import cloud.coupon.domain.coupon.config.CodePoolProperties;
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import cloud.coupon.infra.redis.service.RedisCodePoolService;
+import jakarta.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사전 생성 풀에서 코드를 꺼내 쓰는 generator.
+ * 풀에서 popBatchSize개씩 bulk LPOP해 로컬 버퍼에 두므로 메시지당 Redis 왕복이 없다.
+ * 풀이 비어 있으면 전역 순번에서 직접 블록을 할당한다 (유일성은 동일하게 보장).
+ * random generator로 이미 발급된 코드와 겹치는 코드는 풀에 넣기 전에 DB 조회로 제외한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.code-generator", havingValue = "pool")
+public class PooledCodeGenerator implements CodeGenerator {
+
+    private static final String SHARED_BUFFER = "";
+
+    private final RedisCodePoolService codePoolService;
+    private final CodePoolProperties properties;
+    private final CouponIssueRepository couponIssueRepository;
+
+    private final Map<String, Queue<String>> buffers = new ConcurrentHashMap<>();
+    // refill은 Redis I/O를 포함하므로 synchronized 대신 ReentrantLock (virtual thread pinning 방지)
+    private final Map<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+    private final ExecutorService prepareExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "code-pool-prepare");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        prepareExecutor.shutdownNow();
+    }
+
+    @Override
+    public String generateCode() {
+        return generateCode(SHARED_BUFFER);
+    }
+
+    @Override
+    public String generateCode(String couponCode) {
+        Queue<String> buffer = buffers.computeIfAbsent(couponCode, key -> new ConcurrentLinkedQueue<>());
+        String code = buffer.poll();
+        while (code == null) {
+            refill(couponCode, buffer);
+            code = buffer.poll();
+        }
+        return code;
+    }
+
+    @Override
+    public void prepare(String couponCode, long expectedCount) {
+        codePoolService.fillPool(couponCode, expectedCount, this::excludeIssued);
+    }
+
+    @Override
+    public void prepareAsync(String couponCode, long expectedCount) {
+        prepareExecutor.execute(() -> {
+            try {
+                prepare(couponCode, expectedCount);
+            } catch (Exception e) {
+                // 풀이 덜 찼어도 발급 시 순번 직접 할당으로 대체되므로 로그만 남긴다
+                log.error("[{}]: 발급 코드 풀 적재 실패 | 원인: {}", couponCode, e.getMessage());
+            }
+        });
+    }
+
+    private void refill(String couponCode, Queue<String> buffer) {
+        ReentrantLock lock = refillLocks.computeIfAbsent(couponCode, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (!buffer.isEmpty()) {
+                return;
+            }
+            List<String> codes = SHARED_BUFFER.equals(couponCode)
+                    ? List.of()
+                    : codePoolService.popCodes(couponCode, properties.getPopBatchSize());
+            if (codes.isEmpty()) {
+                log.warn("[{}]: 발급 코드 풀 비어 있음, 순번 직접 할당", couponCode);
+                codes = excludeIssued(codePoolService.allocateCodes(properties.getPopBatchSize()));
+            }
+            buffer.addAll(codes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<String> excludeIssued(List<String> codes) {
+        List<String> issued = couponIssueRepository.findIssuedCodesIn(codes);
+        if (issued.isEmpty()) {
+            return codes;
+        }
+        log.warn("이미 발급된 코드 {}건을 풀에서 제외", issued.size());
+        Set<String> issuedSet = new HashSet<>(issued);
+        return codes.stream().filter(code -> !issuedSet.contains(code)).toList();
+    }
+}
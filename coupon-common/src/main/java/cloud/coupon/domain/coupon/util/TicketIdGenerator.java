@@ -0,0 +1,107 @@
+package cloud.coupon.domain.coupon.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 ticketId 생성기: "tkt_" + 63bit ID의 Crockford base32 13자리 + 64bit 난수 13자리.
+ *
+ * <pre>
+ * [41bit 접수 시각(ms, 2025-01-01 기준)][10bit worker][12bit 순번] [64bit SecureRandom]
+ * </pre>
+ *
+ * 고정 길이에 상위 비트부터 인코딩하므로 문자열 정렬 = 접수 시각 정렬이고,
+ * 앞 41bit로 접수 시각(= 같은 요청의 stream 메시지 시각 근처)을 복원할 수 있다.
+ * (시각, 순번) 상태 하나를 CAS로 갱신하므로 lock이 없고, 같은 ms에 4096개를 넘으면 다음 ms를 미리 쓴다.
+ * 시계가 뒤로 가도 마지막 시각에서 이어가므로 같은 worker 안에서 중복·역전이 없다.
+ * 노드 간 유일성은 worker id(0~1023)가 동시에 살아 있는 노드 사이에서 겹치지 않는 것으로 보장한다.
+ *
+ * ticketId는 /status·/subscribe 조회의 유일한 자격이므로 뒤 64bit 난수로 추측·열거를 막는다
+ * (이전 UUID 기반 ID와 같은 SecureRandom).
+ */
+public final class TicketIdGenerator {
+
+    public static final String PREFIX = "tkt_";
+    public static final int WORKER_BITS = 10;
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    static final long EPOCH_MILLIS = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13; // ceil(64 / 5)
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final WorkerIdSource workerIdSource;
+    private final LongSupplier clock;
+    // (epoch 기준 ms << SEQUENCE_BITS) | 순번 — +1 하면 순번이 넘칠 때 자연히 다음 ms로 넘어간다
+    private final AtomicLong state = new AtomicLong();
+
+    public TicketIdGenerator(int workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    /**
+     * worker id를 매 발급마다 source에서 읽는다 (lease 재획득으로 바뀌거나 lease 만료로 발급을 막는 경우).
+     */
+    public TicketIdGenerator(WorkerIdSource workerIdSource) {
+        this(workerIdSource, System::currentTimeMillis);
+    }
+
+    TicketIdGenerator(int workerId, LongSupplier clock) {
+        this(fixed(workerId), clock);
+    }
+
+    TicketIdGenerator(WorkerIdSource workerIdSource, LongSupplier clock) {
+        this.workerIdSource = workerIdSource;
+        this.clock = clock;
+    }
+
+    private static WorkerIdSource fixed(int workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker id 범위(0~" + MAX_WORKER_ID + ")를 벗어났습니다: " + workerId);
+        }
+        return () -> workerId;
+    }
+
+    public String nextTicketId() {
+        char[] buffer = new char[PREFIX.length() + ENCODED_LENGTH * 2];
+        PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+        encodeInto(buffer, PREFIX.length(), nextId());
+        encodeInto(buffer, PREFIX.length() + ENCODED_LENGTH, RANDOM.nextLong());
+        return new String(buffer);
+    }
+
+    public long nextId() {
+        long workerBits = (long) workerIdSource.currentWorkerId() << SEQUENCE_BITS;
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = state.get();
+            next = now > prev ? now : prev + 1;
+        } while (!state.compareAndSet(prev, next));
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (WORKER_BITS + SEQUENCE_BITS)) | workerBits | (next & SEQUENCE_MASK);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    private static void encodeInto(char[] buffer, int offset, long value) {
+        for (int i = offset + ENCODED_LENGTH - 1; i >= offset; i--) {
+            buffer[i] = CROCKFORD[(int) (value & 31)];
+            value >>>= 5;
+        }
+    }
+
+    /**
+     * 발급에 쓸 worker id. 지금 발급하면 안 되면(lease 만료 등) 예외를 던진다.
+     */
+    @FunctionalInterface
+    public interface WorkerIdSource {
+        int currentWorkerId();
+    }
+}
@@ -0,0 +1,26 @@
+package cloud.coupon.domain.history.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coupon.history")
+public class HistoryRetentionProperties {
+    private boolean retentionEnabled = false;
+    private boolean partitionEnabled = false;
+    private PartitionUnit partitionUnit = PartitionUnit.DAY;
+    private Duration retention = Duration.ofDays(7);
+    private int precreatePartitions = 3;
+    private int deleteBatchSize = 10000;
+    private long retentionDelayMs = 3600000;
+
+    public enum PartitionUnit {
+        DAY,
+        HOUR
+    }
+}
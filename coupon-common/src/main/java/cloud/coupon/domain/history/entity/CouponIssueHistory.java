@@ -7,6 +7,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,6 +16,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(
+    name = "coupon_issue_history",
+    indexes = @Index(name = "idx_coupon_issue_history_request_time", columnList = "request_time")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CouponIssueHistory {
@@ -2,9 +2,13 @@ package cloud.coupon.domain.history.repository;
 
 import cloud.coupon.domain.coupon.entity.IssueResult;
 import cloud.coupon.domain.history.entity.CouponIssueHistory;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,7 +27,18 @@ public interface CouponIssueHistoryRepository extends JpaRepository<CouponIssueH
     //성공/실패 여부로 조회
     List<CouponIssueHistory> findByUserIdAndResult(Long userId, IssueResult result);
 
-    void deleteByCode(String code);
+    // derived delete는 엔티티를 모두 로딩한 뒤 한 건씩 지우므로 bulk JPQL로 삭제
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CouponIssueHistory h WHERE h.code = :code")
+    int deleteByCode(@Param("code") String code);
+
+    // 보관 기간 경과 이력 삭제 대상 id (파티션 미지원 DB용 chunk 삭제)
+    @Query("SELECT h.id FROM CouponIssueHistory h WHERE h.requestTime < :cutoff ORDER BY h.id")
+    List<Long> findIdsRequestedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CouponIssueHistory h WHERE h.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 
     long countByCodeAndResult(String code, IssueResult result);
 
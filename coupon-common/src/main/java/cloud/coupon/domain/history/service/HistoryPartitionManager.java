@@ -0,0 +1,179 @@
+package cloud.coupon.domain.history.service;
+
+import cloud.coupon.domain.history.config.HistoryRetentionProperties;
+import cloud.coupon.domain.history.config.HistoryRetentionProperties.PartitionUnit;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * coupon_issue_history 테이블의 MySQL RANGE 파티션 관리.
+ * request_time 기준 일/시간 단위 파티션을 미리 만들고, 보관 기간이 지난 파티션은 DROP PARTITION으로 통째로 제거한다.
+ * 파티션은 로컬 인덱스를 가지므로 이력이 쌓여도 insert 비용과 인덱스 크기가 파티션 하나 수준으로 유지된다.
+ *
+ * 파티션 테이블 전환(PK 재구성 + 전체 테이블 재작성)은 여기서 하지 않는다 —
+ * mysql/migration/026_partition_coupon_issue_history.sql로 점검 시간에 명시적으로 실행한다.
+ *
+ * MySQL이 아니거나, partition-enabled=false이거나, 전환 migration이 적용되지 않았으면
+ * {@link #isActive()}가 false를 반환하고 호출자는 JPQL chunk 삭제로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryPartitionManager {
+
+    private static final String TABLE_NAME = "coupon_issue_history";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String MAXVALUE = "MAXVALUE";
+    // MySQL TO_SECONDS('1970-01-01 00:00:00')
+    private static final long TO_SECONDS_EPOCH_OFFSET = 62167219200L;
+
+    private static final DateTimeFormatter DAY_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter HOUR_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMddHH");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HistoryRetentionProperties properties;
+
+    // DB 종류는 기동 중 바뀌지 않으므로 한 번만 조회 (동시 호출 시 중복 조회만 생기고 결과는 같다)
+    private volatile Boolean mysql;
+
+    /**
+     * 파티션 관리 가능 여부: 설정 on + MySQL + 파티션 전환 migration 적용 완료.
+     * 설정은 켜졌는데 테이블이 파티션되지 않았으면 경고만 남기고 false (테이블을 바꾸지 않는다).
+     */
+    public boolean isActive() {
+        if (!properties.isPartitionEnabled() || !isMySql()) {
+            return false;
+        }
+        if (findPartitions().isEmpty()) {
+            log.warn("[History] partition-enabled=true지만 {}가 파티션 테이블이 아닙니다. "
+                    + "migration(026_partition_coupon_issue_history.sql) 적용 전까지 chunk 삭제로 대체합니다.", TABLE_NAME);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 시각 + precreate-partitions 단위까지 파티션을 미리 만든다.
+     * 비어 있는 p_future만 재구성하므로 데이터 이동이 없다.
+     */
+    public void createUpcomingPartitions() {
+        LocalDateTime lastUpperBound = findPartitions().stream()
+                .filter(partition -> !MAXVALUE.equals(partition.description()))
+                .map(partition -> fromToSeconds(Long.parseLong(partition.description())))
+                .max(LocalDateTime::compareTo)
+                .orElseThrow(() -> new IllegalStateException("coupon_issue_history 파티션이 없습니다."));
+
+        List<String> definitions = rangeDefinitions(lastUpperBound, targetUpperBound());
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add(futureDefinition());
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME
+                + " REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("[History] 파티션 추가 | count: {}", definitions.size() - 1);
+    }
+
+    /**
+     * 상한이 cutoff 이하인 파티션을 DROP PARTITION으로 제거한다. 행 단위 삭제가 없어 undo/redo 비용이 없다.
+     */
+    public int dropPartitionsBefore(LocalDateTime cutoff) {
+        long cutoffSeconds = toSeconds(cutoff);
+        List<String> expired = findPartitions().stream()
+                .filter(partition -> !MAXVALUE.equals(partition.description()))
+                .filter(partition -> Long.parseLong(partition.description()) <= cutoffSeconds)
+                .map(HistoryPartition::name)
+                .toList();
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + String.join(", ", expired));
+        log.info("[History] 만료 파티션 제거 | partitions: {}", expired);
+        return expired.size();
+    }
+
+    List<HistoryPartition> findPartitions() {
+        return jdbcTemplate.query("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                        FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE()
+                          AND TABLE_NAME = ?
+                          AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                (rs, rowNum) -> new HistoryPartition(rs.getString(1), rs.getString(2)),
+                TABLE_NAME);
+    }
+
+    private List<String> rangeDefinitions(LocalDateTime from, LocalDateTime to) {
+        List<String> definitions = new ArrayList<>();
+        for (LocalDateTime lower = from; lower.isBefore(to); lower = next(lower)) {
+            definitions.add(partitionDefinition(partitionName(lower), next(lower)));
+        }
+        return definitions;
+    }
+
+    private LocalDateTime targetUpperBound() {
+        LocalDateTime current = truncate(LocalDateTime.now());
+        for (int i = 0; i <= properties.getPrecreatePartitions(); i++) {
+            current = next(current);
+        }
+        return current;
+    }
+
+    private String partitionDefinition(String name, LocalDateTime upperBound) {
+        return "PARTITION " + name + " VALUES LESS THAN (" + toSeconds(upperBound) + ")";
+    }
+
+    private String futureDefinition() {
+        return "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN " + MAXVALUE;
+    }
+
+    private String partitionName(LocalDateTime lowerBound) {
+        return properties.getPartitionUnit() == PartitionUnit.HOUR
+                ? HOUR_NAME_FORMAT.format(lowerBound)
+                : DAY_NAME_FORMAT.format(lowerBound);
+    }
+
+    private LocalDateTime truncate(LocalDateTime time) {
+        return properties.getPartitionUnit() == PartitionUnit.HOUR
+                ? time.truncatedTo(ChronoUnit.HOURS)
+                : time.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    private LocalDateTime next(LocalDateTime time) {
+        return properties.getPartitionUnit() == PartitionUnit.HOUR ? time.plusHours(1) : time.plusDays(1);
+    }
+
+    private boolean isMySql() {
+        if (mysql == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            mysql = productName != null && productName.toLowerCase().contains("mysql");
+        }
+        return mysql;
+    }
+
+    static long toSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) + TO_SECONDS_EPOCH_OFFSET;
+    }
+
+    static LocalDateTime fromToSeconds(long toSeconds) {
+        return LocalDateTime.ofEpochSecond(toSeconds - TO_SECONDS_EPOCH_OFFSET, 0, ZoneOffset.UTC);
+    }
+
+    record HistoryPartition(String name, String description) {
+    }
+}
@@ -0,0 +1,63 @@
+package cloud.coupon.domain.history.service;
+
+import cloud.coupon.domain.history.config.HistoryRetentionProperties;
+import cloud.coupon.domain.history.repository.CouponIssueHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.history.retention-enabled", havingValue = "true")
+public class HistoryRetentionScheduler {
+
+    private final HistoryRetentionProperties properties;
+    private final HistoryPartitionManager partitionManager;
+    private final CouponIssueHistoryRepository couponIssueHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 보관 기간이 지난 발급 이력을 정리합니다.
+     * MySQL 파티션 모드(migration 적용 후): 다음 파티션 선생성 + 만료 파티션 DROP.
+     * 그 외(H2 등): id chunk 단위 bulk JPQL 삭제 — 한 번에 거대한 트랜잭션을 만들지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.history.retention-delay-ms:3600000}")
+    public void purgeExpiredHistory() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        try {
+            if (partitionManager.isActive()) {
+                partitionManager.createUpcomingPartitions();
+                partitionManager.dropPartitionsBefore(cutoff);
+                return;
+            }
+            deleteInChunks(cutoff);
+        } catch (Exception e) {
+            log.error("[History] 이력 정리 실패 | cutoff: {} | 원인: {}", cutoff, e.getMessage(), e);
+        }
+    }
+
+    private void deleteInChunks(LocalDateTime cutoff) {
+        PageRequest chunk = PageRequest.of(0, properties.getDeleteBatchSize());
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = couponIssueHistoryRepository.findIdsRequestedBefore(cutoff, chunk);
+                return ids.isEmpty() ? 0 : couponIssueHistoryRepository.deleteAllByIdIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+        }
+        if (total > 0) {
+            log.info("[History] 만료 이력 삭제 | cutoff: {} deleted: {}", cutoff, total);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package cloud.coupon.global.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션만 replica로 보낸다.
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 커넥션을 결정해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Role {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return Role.REPLICA;
+        }
+        return Role.PRIMARY;
+    }
+}
@@ -0,0 +1,69 @@
+package cloud.coupon.global.config.datasource;
+
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 지연 감시. 지연이 maxLagSeconds를 넘거나 복제가 멈추면
+ * readOnly 트랜잭션도 primary로 보내 방금 발급된 데이터가 안 보이는 문제를 막는다.
+ * MySQL이 아닌 replica(로컬 H2 등)는 복제 상태를 알 수 없으므로 연결만 확인한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.datasource.replica.lag-check-delay-ms:1000}")
+    public void checkLag() {
+        boolean available;
+        try {
+            Long lagSeconds = readLagSeconds();
+            available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+            if (!available && replicaAvailable) {
+                log.warn("replica 지연 초과로 primary 읽기 전환 | lag: {}s (max: {}s)", lagSeconds, maxLagSeconds);
+            }
+        } catch (Exception e) {
+            available = false;
+            if (replicaAvailable) {
+                log.warn("replica 상태 확인 실패로 primary 읽기 전환 | 원인: {}", e.getMessage());
+            }
+        }
+        if (available && !replicaAvailable) {
+            log.info("replica 읽기 활성화");
+        }
+        replicaAvailable = available;
+    }
+
+    // null: 복제 중단 (Seconds_Behind_Source = NULL)
+    private Long readLagSeconds() {
+        String product = replicaJdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            replicaJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return 0L;
+        }
+        List<Long> lags = replicaJdbcTemplate.query("SHOW REPLICA STATUS",
+                (rs, rowNum) -> {
+                    long lag = rs.getLong("Seconds_Behind_Source");
+                    return rs.wasNull() ? null : lag;
+                });
+        // 복제 설정이 없는 단독 인스턴스는 지연 0으로 간주
+        return lags.isEmpty() ? Long.valueOf(0L) : lags.get(0);
+    }
+}
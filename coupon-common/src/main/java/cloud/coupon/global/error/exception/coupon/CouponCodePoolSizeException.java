@@ -0,0 +1,7 @@
+package cloud.coupon.global.error.exception.coupon;
+
+public class CouponCodePoolSizeException extends CouponException {
+    public CouponCodePoolSizeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package cloud.coupon.global.error.exception.coupon;
+
+public class WaitingRoomAdmissionRequiredException extends CouponException {
+    public WaitingRoomAdmissionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package cloud.coupon.global.error.exception.ticket;
+
+public class TicketIdUnavailableException extends RuntimeException {
+    public TicketIdUnavailableException(String message) {
+        super(message);
+    }
+}
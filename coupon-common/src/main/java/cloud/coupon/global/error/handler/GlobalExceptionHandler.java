@@ -3,11 +3,15 @@ package cloud.coupon.global.error.handler;
 import cloud.coupon.global.common.ErrorResponse;
 import cloud.coupon.global.error.exception.coupon.CouponException;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
+import cloud.coupon.global.error.exception.coupon.WaitingRoomAdmissionRequiredException;
 import cloud.coupon.global.error.exception.couponissue.CouponIssueException;
 import cloud.coupon.global.error.exception.couponissue.CouponIssueNotFoundException;
+import cloud.coupon.global.error.exception.ratelimit.RateLimitExceededException;
 import cloud.coupon.global.error.exception.redis.RedisException;
+import cloud.coupon.global.error.exception.ticket.TicketIdUnavailableException;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -40,6 +44,12 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("Coupon Issue Not Found", ex.getMessage()));
     }
 
+    @ExceptionHandler(WaitingRoomAdmissionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handleWaitingRoomAdmissionRequiredException(WaitingRoomAdmissionRequiredException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse("Waiting Room Admission Required", ex.getMessage()));
+    }
+
     @ExceptionHandler(CouponException.class)
     public ResponseEntity<ErrorResponse> handleCouponException(CouponException ex) {
         return ResponseEntity.badRequest()
@@ -52,12 +62,25 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("Coupon Issue Error", ex.getMessage()));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse("Too Many Requests", ex.getMessage()));
+    }
+
     @ExceptionHandler(RedisException.class)
     public ResponseEntity<ErrorResponse> handleRedisException(RedisException ex) {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body(new ErrorResponse("Service Temporarily Unavailable", ex.getMessage()));
     }
 
+    @ExceptionHandler(TicketIdUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleTicketIdUnavailableException(TicketIdUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("Service Temporarily Unavailable", ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllExceptions(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1,14 +1,19 @@
 package cloud.coupon.infra.redis.config;
 
 import java.time.Duration;
+import java.util.List;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -22,6 +27,10 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // 설정 시 Redis Cluster로 연결 (host:port 목록, 쉼표 구분). 비어 있으면 host/port 단일 노드
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private List<String> clusterNodes;
+
     @Value("${spring.data.redis.lettuce.pool.max-active:8}")
     private int maxActive;
 
@@ -34,8 +43,11 @@ public class RedisConfig {
     @Value("${spring.data.redis.lettuce.pool.max-wait:-1}")
     private long maxWaitMillis;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         GenericObjectPoolConfig<Object> poolConfig = new GenericObjectPoolConfig<>();
         poolConfig.setMaxTotal(maxActive);
         poolConfig.setMaxIdle(maxIdle);
@@ -46,6 +58,10 @@ public class RedisConfig {
                 .poolConfig(poolConfig)
                 .build();
 
+        if (!clusterNodes.isEmpty()) {
+            // native client가 RedisClusterClient가 되어 sharded Pub/Sub 구독도 채널 slot을 가진 shard로 연결된다
+            return new LettuceConnectionFactory(new RedisClusterConfiguration(clusterNodes), clientConfig);
+        }
         return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfig);
     }
 
@@ -73,10 +89,23 @@ public class RedisConfig {
         return template;
     }
 
+    // Lettuce reactive 커넥션 — 비동기 접수(v3) 경로용
+    @Bean
+    @org.springframework.context.annotation.Primary
+    public ReactiveStringRedisTemplate couponReactiveRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        if (virtualThreads) {
+            // Pub/Sub 메시지 처리(SSE 전송)를 virtual thread에서 수행
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
         return container;
     }
 }
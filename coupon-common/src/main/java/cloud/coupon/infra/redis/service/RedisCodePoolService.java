@@ -0,0 +1,87 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.config.CodePoolProperties;
+import cloud.coupon.domain.coupon.util.FeistelCodePermutation;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 발급 코드 사전 생성 풀.
+ * 전역 순번(coupon:code:seq)을 INCRBY로 블록 단위 예약 → Feistel permutation으로 코드화 →
+ * 쿠폰별 리스트(coupon:code-pool:{code})에 적재한다. 순번이 겹치지 않으므로 코드도 겹치지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisCodePoolService {
+
+    public static final String POOL_KEY_PREFIX = "coupon:code-pool:";
+    // 순번 키는 정리 대상이 아님 — 리셋되면 이미 발급된 코드와 중복될 수 있음
+    private static final String SEQUENCE_KEY = "coupon:code:seq";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CodePoolProperties properties;
+
+    private FeistelCodePermutation permutation;
+
+    @PostConstruct
+    void initPermutation() {
+        permutation = new FeistelCodePermutation(properties.getSecret());
+    }
+
+    /**
+     * 전역 순번에서 count개를 예약해 코드로 변환한다 (Redis 왕복 1회).
+     */
+    public List<String> allocateCodes(int count) {
+        Long end = redisTemplate.opsForValue().increment(SEQUENCE_KEY, count);
+        if (end == null || end > FeistelCodePermutation.DOMAIN_SIZE) {
+            throw new IllegalStateException("발급 코드 순번 공간이 소진되었습니다: " + end);
+        }
+        long start = end - count;
+        List<String> codes = new ArrayList<>(count);
+        for (long index = start; index < end; index++) {
+            codes.add(permutation.codeAt(index));
+        }
+        return codes;
+    }
+
+    /**
+     * 풀 크기가 targetSize가 될 때까지 채운다. 반환값: 채운 뒤 풀 크기
+     * excludeIssued는 할당한 코드 중 이미 발급된 코드(random generator 시절 발급분 등)를 걸러낸다.
+     */
+    public long fillPool(String couponCode, long targetSize, UnaryOperator<List<String>> excludeIssued) {
+        String key = POOL_KEY_PREFIX + couponCode;
+        long size = poolSize(couponCode);
+        while (size < targetSize) {
+            int chunk = (int) Math.min(properties.getRefillChunkSize(), targetSize - size);
+            List<String> codes = excludeIssued.apply(allocateCodes(chunk));
+            if (codes.isEmpty()) {
+                continue;
+            }
+            Long pushed = redisTemplate.opsForList().rightPushAll(key, codes);
+            size = pushed != null ? pushed : size + codes.size();
+        }
+        log.info("[{}]: 발급 코드 풀 적재 | size: {}", couponCode, size);
+        return size;
+    }
+
+    public List<String> popCodes(String couponCode, int count) {
+        List<String> codes = redisTemplate.opsForList().leftPop(POOL_KEY_PREFIX + couponCode, count);
+        return codes != null ? codes : List.of();
+    }
+
+    public long poolSize(String couponCode) {
+        Long size = redisTemplate.opsForList().size(POOL_KEY_PREFIX + couponCode);
+        return size != null ? size : 0;
+    }
+
+    public void deletePool(String couponCode) {
+        redisTemplate.delete(POOL_KEY_PREFIX + couponCode);
+    }
+}
@@ -0,0 +1,251 @@
+package cloud.coupon.infra.redis.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+/**
+ * 패턴 기반 Redis 키 정리.
+ * KEYS 대신 SCAN MATCH/COUNT 커서로 조금씩 훑고, batch 단위 UNLINK로 삭제한다.
+ * UNLINK는 큰 값(수백만 멤버 set, 긴 stream)의 메모리 해제를 백그라운드 스레드로 넘기므로
+ * 정리 중에도 다른 쿠폰의 발급 Lua가 멈추지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisKeyCleaner {
+
+    private static final int MAX_RETAINED_JOBS = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${coupon.redis.cleanup.scan-count:1000}")
+    private long scanCount;
+
+    @Value("${coupon.redis.cleanup.unlink-batch-size:500}")
+    private int unlinkBatchSize;
+
+    // batch 사이 양보 시간 (0이면 쉬지 않음)
+    @Value("${coupon.redis.cleanup.pause-ms:0}")
+    private long pauseMs;
+
+    private final Map<String, CleanupJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "redis-key-cleaner");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(CleanupJob::cancel);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 호출 스레드에서 바로 정리 (이후 작업이 정리 완료를 전제로 할 때).
+     * 반환값: 삭제한 키 수
+     */
+    public long cleanupNow(String... patterns) {
+        CleanupJob job = new CleanupJob(List.of(patterns));
+        run(job);
+        return job.getUnlinkedKeys();
+    }
+
+    /**
+     * 백그라운드 정리 작업 등록. 진행 상황은 getJob(jobId)로 조회, cancel(jobId)로 중단.
+     */
+    public CleanupJob submit(String... patterns) {
+        CleanupJob job = new CleanupJob(List.of(patterns));
+        evictFinishedJobs();
+        jobs.put(job.getJobId(), job);
+        executor.submit(() -> run(job));
+        return job;
+    }
+
+    public Optional<CleanupJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public List<CleanupJob> getJobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * 진행 중인 백그라운드 정리를 모두 중단하고 끝날 때까지 대기.
+     * 정리 직후 같은 이름의 키를 다시 만드는 경로(setup)가 늦게 도착한 UNLINK에 지워지지 않게 한다.
+     */
+    public void cancelAllAndAwait(Duration timeout) {
+        jobs.values().forEach(CleanupJob::cancel);
+        try {
+            executor.submit(() -> { }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Redis 키 정리 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("진행 중인 Redis 키 정리가 끝나지 않았습니다.", e);
+        }
+    }
+
+    public boolean cancel(String jobId) {
+        CleanupJob job = jobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+        job.cancel();
+        return true;
+    }
+
+    /**
+     * 이름을 아는 키(쿠폰별 set, stream 등)는 SCAN 없이 바로 UNLINK.
+     */
+    public long unlink(Collection<String> keys) {
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private void run(CleanupJob job) {
+        job.state = JobState.RUNNING;
+        try {
+            for (String pattern : job.getPatterns()) {
+                if (job.cancelled.get()) {
+                    break;
+                }
+                cleanupPattern(job, pattern);
+            }
+            job.state = job.cancelled.get() ? JobState.CANCELLED : JobState.COMPLETED;
+        } catch (Exception e) {
+            job.state = JobState.FAILED;
+            job.error = e.getMessage();
+            log.error("[Cleanup] 키 정리 실패 | jobId: {} patterns: {} | 원인: {}",
+                    job.getJobId(), job.getPatterns(), e.getMessage(), e);
+            if (!jobs.containsKey(job.getJobId())) {
+                throw e; // cleanupNow: 호출자에게 실패 전파
+            }
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            log.info("[Cleanup] 키 정리 종료 | jobId: {} state: {} scanned: {} unlinked: {}",
+                    job.getJobId(), job.getState(), job.getScannedKeys(), job.getUnlinkedKeys());
+        }
+    }
+
+    private void cleanupPattern(CleanupJob job, String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+        List<String> batch = new ArrayList<>(unlinkBatchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext() && !job.cancelled.get()) {
+                batch.add(cursor.next());
+                job.scannedKeys.incrementAndGet();
+                if (batch.size() >= unlinkBatchSize) {
+                    flush(job, batch);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(job, batch);
+        }
+    }
+
+    private void flush(CleanupJob job, List<String> batch) {
+        if (job.cancelled.get()) {
+            batch.clear();
+            return;
+        }
+        job.unlinkedKeys.addAndGet(unlink(batch));
+        batch.clear();
+        if (pauseMs > 0) {
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                job.cancel();
+            }
+        }
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.getFinishedAt() != null)
+                .sorted((a, b) -> a.getFinishedAt().compareTo(b.getFinishedAt()))
+                .limit(jobs.size() - MAX_RETAINED_JOBS + 1L)
+                .forEach(job -> jobs.remove(job.getJobId()));
+    }
+
+    public enum JobState {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    @Getter
+    public static class CleanupJob {
+        private final String jobId = UUID.randomUUID().toString().substring(0, 8);
+        private final List<String> patterns;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private volatile JobState state = JobState.PENDING;
+        private volatile String error;
+        private final AtomicLong scannedKeys = new AtomicLong();
+        private final AtomicLong unlinkedKeys = new AtomicLong();
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        CleanupJob(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public long getScannedKeys() {
+            return scannedKeys.get();
+        }
+
+        public long getUnlinkedKeys() {
+            return unlinkedKeys.get();
+        }
+
+        void cancel() {
+            cancelled.set(true);
+        }
+
+        public Map<String, Object> toSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("jobId", jobId);
+            summary.put("patterns", patterns);
+            summary.put("state", state);
+            summary.put("scannedKeys", scannedKeys.get());
+            summary.put("unlinkedKeys", unlinkedKeys.get());
+            summary.put("startedAt", startedAt.toString());
+            summary.put("finishedAt", finishedAt != null ? finishedAt.toString() : "");
+            if (error != null) {
+                summary.put("error", error);
+            }
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package cloud.coupon.infra.redis.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 노드 공용 token bucket (coupon:ratelimit:{group}:{key} HASH: t=남은 토큰, ts=마지막 갱신 ms).
+ * 여러 bucket을 Lua 1회로 확인하고, 모두 토큰이 있을 때만 함께 차감한다.
+ * 한 번에 확인하는 bucket은 같은 group(쿠폰 코드)을 hash tag로 써서 클러스터에서도 같은 slot에 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisRateLimitService {
+
+    private static final String KEY_PREFIX = "coupon:ratelimit:";
+
+    // ARGV[1]: 현재 시각(ms), ARGV[2i], ARGV[2i+1]: KEYS[i]의 capacity, 초당 refill
+    // 반환값: 0 허용, i > 0 토큰이 없는 첫 bucket 번호
+    private static final String TOKEN_BUCKET_LUA_SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local tokens = {}
+            for i = 1, #KEYS do
+                local capacity = tonumber(ARGV[i * 2])
+                local rate = tonumber(ARGV[i * 2 + 1])
+                local bucket = redis.call('hmget', KEYS[i], 't', 'ts')
+                local t = tonumber(bucket[1]) or capacity
+                local ts = tonumber(bucket[2]) or now
+                t = math.min(capacity, t + math.max(0, now - ts) * rate / 1000)
+                if t < 1 then
+                    return i
+                end
+                tokens[i] = t
+            end
+            for i = 1, #KEYS do
+                local capacity = tonumber(ARGV[i * 2])
+                local rate = tonumber(ARGV[i * 2 + 1])
+                redis.call('hset', KEYS[i], 't', tostring(tokens[i] - 1), 'ts', ARGV[1])
+                -- 가득 찰 때까지 걸리는 시간이 지나면 bucket이 없어도 같은 상태
+                redis.call('pexpire', KEYS[i], math.ceil(capacity / rate * 1000) + 1000)
+            end
+            return 0
+            """;
+
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = RedisScript.of(TOKEN_BUCKET_LUA_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    /**
+     * 반환값: 0 허용(모든 bucket에서 1개씩 차감), i > 0 buckets.get(i - 1)의 토큰 부족 (차감 없음)
+     */
+    public long tryAcquire(String group, List<Bucket> buckets) {
+        Long result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys(group, buckets), args(buckets).toArray());
+        return result != null ? result : 0;
+    }
+
+    public CompletableFuture<Long> tryAcquireAsync(String group, List<Bucket> buckets) {
+        return reactiveRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys(group, buckets), args(buckets))
+                .next()
+                .defaultIfEmpty(0L)
+                .toFuture();
+    }
+
+    private List<String> keys(String group, List<Bucket> buckets) {
+        String prefix = KEY_PREFIX + "{" + group + "}:";
+        return buckets.stream().map(bucket -> prefix + bucket.key()).toList();
+    }
+
+    private List<String> args(List<Bucket> buckets) {
+        List<String> args = new ArrayList<>(1 + buckets.size() * 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        for (Bucket bucket : buckets) {
+            args.add(String.valueOf(bucket.capacity()));
+            args.add(String.valueOf(bucket.refillPerSecond()));
+        }
+        return args;
+    }
+
+    public record Bucket(String key, int capacity, double refillPerSecond) {
+    }
+}
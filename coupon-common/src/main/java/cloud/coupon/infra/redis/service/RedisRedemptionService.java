@@ -0,0 +1,126 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.config.RedemptionProperties;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 우선 쿠폰 사용(redemption) 경로.
+ * 발급 완료 시 issuedCode별 HASH를 등록해 두고, 사용 요청은 Lua로 소유자/사용 여부/만료를 검증한 뒤
+ * 사용 처리 + Stream XADD를 원자적으로 수행한다. DB 반영은 coupon-consumer가 batch로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisRedemptionService {
+
+    private static final String REDEEM_KEY_PREFIX = "coupon:redeem:";
+    private static final String BLOCKED_KEY = "coupon:redeem:blocked";
+
+    public static final long RESULT_NOT_REGISTERED = -1;
+    public static final long RESULT_OWNER_MISMATCH = -2;
+    public static final long RESULT_ALREADY_USED = -3;
+    public static final long RESULT_NOT_AVAILABLE = -4;
+
+    private static final String REGISTER_LUA_SCRIPT = """
+            local redeem_key = KEYS[1]
+
+            redis.call('hset', redeem_key,
+                'userId', ARGV[1],
+                'couponCode', ARGV[2],
+                'discountValue', ARGV[3],
+                'expireAt', ARGV[4])
+            redis.call('pexpireat', redeem_key, ARGV[4])
+            return 1
+            """;
+
+    private static final String REDEEM_LUA_SCRIPT = """
+            local redeem_key  = KEYS[1]
+            local blocked_key = KEYS[2]
+            local stream_key  = KEYS[3]
+            local issued_code = ARGV[1]
+            local user_id     = ARGV[2]
+            local now_millis  = ARGV[3]
+            local used_at     = ARGV[4]
+
+            if redis.call('exists', redeem_key) == 0 then
+                return -1
+            end
+            local fields = redis.call('hmget', redeem_key, 'userId', 'couponCode', 'discountValue', 'expireAt', 'usedAt')
+            if fields[1] ~= user_id then
+                return -2
+            end
+            if fields[5] then
+                return -3
+            end
+            if tonumber(fields[4]) <= tonumber(now_millis) then
+                return -4
+            end
+            if redis.call('sismember', blocked_key, fields[2]) == 1 then
+                return -4
+            end
+
+            redis.call('hset', redeem_key, 'usedAt', used_at)
+            redis.call('xadd', stream_key, '*',
+                'issuedCode', issued_code,
+                'userId', user_id,
+                'couponCode', fields[2],
+                'usedAt', used_at)
+
+            return tonumber(fields[3])
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedemptionProperties redemptionProperties;
+
+    /**
+     * 발급 완료된 issuedCode를 redemption 대상으로 등록. 쿠폰 만료 시각에 키도 만료된다.
+     */
+    public void registerIssuedCode(String issuedCode, Long userId, String couponCode,
+                                   Integer discountValue, LocalDateTime expireTime) {
+        long expireAtMillis = expireTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        redisTemplate.execute(
+                new DefaultRedisScript<>(REGISTER_LUA_SCRIPT, Long.class),
+                Collections.singletonList(REDEEM_KEY_PREFIX + issuedCode),
+                String.valueOf(userId),
+                couponCode,
+                String.valueOf(discountValue),
+                String.valueOf(expireAtMillis)
+        );
+    }
+
+    /**
+     * 반환값: >= 0 성공(할인 값), -1 미등록(DB 경로로 처리), -2 소유자 불일치, -3 이미 사용, -4 사용 불가
+     */
+    public long redeemAtomically(String issuedCode, Long userId, LocalDateTime usedAt) {
+        List<String> keys = List.of(REDEEM_KEY_PREFIX + issuedCode, BLOCKED_KEY, redemptionProperties.getStreamKey());
+        Long result = redisTemplate.execute(
+                new DefaultRedisScript<>(REDEEM_LUA_SCRIPT, Long.class),
+                keys,
+                issuedCode,
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis()),
+                usedAt.toString()
+        );
+        return result != null ? result : RESULT_NOT_REGISTERED;
+    }
+
+    /**
+     * 비활성화/삭제된 쿠폰은 Redis 경로에서 즉시 사용 불가 처리.
+     */
+    public void blockCoupon(String couponCode) {
+        redisTemplate.opsForSet().add(BLOCKED_KEY, couponCode);
+    }
+
+    // 같은 코드로 쿠폰이 다시 생성된 경우 차단 해제
+    public void unblockCoupon(String couponCode) {
+        redisTemplate.opsForSet().remove(BLOCKED_KEY, couponCode);
+    }
+}
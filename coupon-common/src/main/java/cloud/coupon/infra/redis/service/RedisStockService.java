@@ -2,19 +2,19 @@ package cloud.coupon.infra.redis.service;
 
 import static cloud.coupon.domain.coupon.constant.ErrorMessage.COUPON_NOT_FOUND_MESSAGE;
 
-import cloud.coupon.domain.coupon.entity.Coupon;
-import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.domain.coupon.config.WaitingRoomProperties;
 import cloud.coupon.global.error.exception.coupon.CouponNotFoundException;
 import cloud.coupon.global.error.exception.redis.RedisOperationException;
-import jakarta.annotation.PostConstruct;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -22,26 +22,32 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RedisStockService {
     private final RedisTemplate<String, String> redisTemplate;
-    private final CouponRepository couponRepository;
-    private static final String STOCK_KEY_PREFIX = "coupon:stock:";
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final RedisKeyCleaner redisKeyCleaner;
+    private final WaitingRoomProperties waitingRoomProperties;
+    static final String STOCK_KEY_PREFIX = "coupon:stock:";
     private static final String INFLIGHT_KEY_PREFIX = "coupon:inflight:";
     private static final String ISSUED_KEY_PREFIX = "coupon:issued:";
+    // 마지막 reconcile 이후 재고/inflight가 바뀐 쿠폰 코드 (admission, finalization, Phase 1 차감/복구에서 SADD)
+    // coupon:stock:{code} 네임스페이스와 겹치지 않도록 별도 prefix (coupon:stock:* SCAN/GET에 SET이 섞이지 않게)
+    private static final String DIRTY_KEY = "coupon:dirty:stock";
     private static final String STREAM_KEY = "coupon:issue:stream";
     private static final String PHASE3_ADMIN_LOCK_KEY = "coupon:loadtest:phase3:admin:lock";
 
-    @Value("${coupon.stock.sync-on-startup:true}")
-    private boolean syncStockOnStartup;
-
     private static final String ISSUE_LUA_SCRIPT = """
             local inflight_key = KEYS[1]
             local issued_key   = KEYS[2]
             local stock_key    = KEYS[3]
             local stream_key   = KEYS[4]
+            local dirty_key    = KEYS[5]
+            local admitted_key = KEYS[6]
             local user_id      = ARGV[1]
             local ticket_id    = ARGV[2]
             local code         = ARGV[3]
             local request_ip   = ARGV[4]
             local request_time = ARGV[5]
+            local waiting_room = ARGV[6] == '1'
+            local now_ms       = tonumber(ARGV[7])
 
             if redis.call('sismember', issued_key, user_id) == 1 then
                 return -3
@@ -49,12 +55,22 @@ public class RedisStockService {
             if redis.call('sismember', inflight_key, user_id) == 1 then
                 return -4
             end
+            if waiting_room then
+                local admitted_until = redis.call('zscore', admitted_key, user_id)
+                if not admitted_until or tonumber(admitted_until) <= now_ms then
+                    return -5
+                end
+            end
             local stock = redis.call('get', stock_key)
             if not stock then return -2 end
             if tonumber(stock) <= 0 then return -1 end
 
             redis.call('decr', stock_key)
             redis.call('sadd', inflight_key, user_id)
+            redis.call('sadd', dirty_key, code)
+            if waiting_room then
+                redis.call('zrem', admitted_key, user_id)
+            end
             redis.call('xadd', stream_key, '*',
                 'ticketId', ticket_id,
                 'code', code,
@@ -65,10 +81,14 @@ public class RedisStockService {
             return tonumber(redis.call('get', stock_key))
             """;
 
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(ISSUE_LUA_SCRIPT, Long.class);
+
     private static final String TRANSITION_TO_ISSUED_LUA_SCRIPT = """
             local inflight_key = KEYS[1]
             local issued_key = KEYS[2]
+            local dirty_key = KEYS[3]
             local user_id = ARGV[1]
+            local code = ARGV[2]
 
             if redis.call('sismember', issued_key, user_id) == 1 then
                 return 1
@@ -79,6 +99,7 @@ public class RedisStockService {
 
             redis.call('srem', inflight_key, user_id)
             redis.call('sadd', issued_key, user_id)
+            redis.call('sadd', dirty_key, code)
             return 1
             """;
 
@@ -86,7 +107,9 @@ public class RedisStockService {
             local inflight_key = KEYS[1]
             local issued_key = KEYS[2]
             local stock_key = KEYS[3]
+            local dirty_key = KEYS[4]
             local user_id = ARGV[1]
+            local code = ARGV[2]
 
             if redis.call('sismember', issued_key, user_id) == 1 then
                 return -1
@@ -99,9 +122,44 @@ public class RedisStockService {
             end
 
             redis.call('srem', inflight_key, user_id)
+            redis.call('sadd', dirty_key, code)
             return redis.call('incr', stock_key)
             """;
 
+    /**
+     * expected = db_remain - |inflight| 와 현재 Redis 재고의 차이(drift)를 계산한다.
+     * 조회 이후 dirty로 다시 표시됐다면(발급/확정 진행 중) 판단하지 않는다.
+     * confirmed와 같은 drift가 다시 관측된 경우에만 expected로 보정한다.
+     * 반환값: {drift, status} status 0 관측, 1 보정, 2 진행 중(보류), 3 키 없음 → 생성
+     */
+    private static final String RECONCILE_STOCK_LUA_SCRIPT = """
+            local stock_key    = KEYS[1]
+            local inflight_key = KEYS[2]
+            local dirty_key    = KEYS[3]
+            local code         = ARGV[1]
+            local db_remain    = tonumber(ARGV[2])
+            local confirmed    = ARGV[3]
+
+            if redis.call('sismember', dirty_key, code) == 1 then
+                return {0, 2}
+            end
+
+            local expected = db_remain - redis.call('scard', inflight_key)
+            if expected < 0 then expected = 0 end
+            local stock = redis.call('get', stock_key)
+            if not stock then
+                redis.call('set', stock_key, expected)
+                return {expected, 3}
+            end
+
+            local drift = tonumber(stock) - expected
+            if drift ~= 0 and confirmed ~= '' and drift == tonumber(confirmed) then
+                redis.call('set', stock_key, expected)
+                return {drift, 1}
+            end
+            return {drift, 0}
+            """;
+
     private static final String RELEASE_PHASE3_ADMIN_LOCK_LUA_SCRIPT = """
             if redis.call('get', KEYS[1]) == ARGV[1] then
                 return redis.call('del', KEYS[1])
@@ -109,19 +167,6 @@ public class RedisStockService {
             return 0
             """;
 
-    @PostConstruct
-    public void initializeStockData() {
-        if (!syncStockOnStartup) {
-            log.info("Redis 재고 시작 동기화 비활성화");
-            return;
-        }
-
-        List<Coupon> activeCoupons = couponRepository.findAllActiveCoupons();
-        for (Coupon coupon : activeCoupons) {
-            syncStockWithDB(coupon.getCode(), coupon.getRemainStock());
-        }
-    }
-
     public void initializeStock(String couponCode, int quantity) {
         String key = STOCK_KEY_PREFIX + couponCode;
         redisTemplate.opsForValue().set(key, String.valueOf(quantity));
@@ -129,6 +174,7 @@ public class RedisStockService {
 
     public void increaseStock(String code) {
         incrementWithRetry(STOCK_KEY_PREFIX + code, code);
+        markDirty(List.of(code));
     }
 
     private void incrementWithRetry(String key, String code) {
@@ -173,11 +219,13 @@ public class RedisStockService {
                 "if tonumber(current) <= 0 then " +
                 "    return -1 " +
                 "end " +
+                "redis.call('sadd', KEYS[2], ARGV[1]) " +
                 "return redis.call('decr', KEYS[1])";
 
         long result = redisTemplate.execute(
                 new DefaultRedisScript<>(script, Long.class),
-                Collections.singletonList(key)
+                List.of(key, DIRTY_KEY),
+                couponCode
         );
 
         if (result == -2) {
@@ -197,20 +245,46 @@ public class RedisStockService {
         log.info("[{}] Redis 재고 키 삭제 완료", couponCode);
     }
 
+    /**
+     * 이벤트 종료(쿠폰 삭제) 시 쿠폰별 키 정리.
+     * issued set은 수백만 멤버일 수 있으므로 UNLINK로 메모리 해제를 백그라운드에 넘긴다.
+     */
+    public void removeCouponKeys(String couponCode) {
+        long unlinked = redisKeyCleaner.unlink(List.of(
+                STOCK_KEY_PREFIX + couponCode,
+                INFLIGHT_KEY_PREFIX + couponCode,
+                ISSUED_KEY_PREFIX + couponCode,
+                RedisCodePoolService.POOL_KEY_PREFIX + couponCode,
+                RedisWaitingRoomService.QUEUE_KEY_PREFIX + couponCode,
+                RedisWaitingRoomService.ADMITTED_KEY_PREFIX + couponCode,
+                RedisWaitingRoomService.SEQUENCE_KEY_PREFIX + couponCode
+        ));
+        log.info("[{}] Redis 쿠폰 키 정리 완료 | unlinked: {}", couponCode, unlinked);
+    }
+
     public void deleteAllKeys() {
-        deleteKeysByPattern(STOCK_KEY_PREFIX + "*");
+        redisKeyCleaner.cleanupNow(STOCK_KEY_PREFIX + "*");
     }
 
     /**
-     * Phase 3 비동기 발급에서 사용하는 모든 Redis 키 삭제.
-     * stock, inflight, issued, ticket 패턴을 모두 정리한다.
+     * Phase 3 비동기 발급에서 사용하는 모든 Redis 키 삭제 (SCAN + UNLINK, 호출 스레드에서 완료까지 대기).
+     * stock, inflight, issued, ticket, code-pool 패턴을 모두 정리한다.
      * Stream과 DLQ는 별도로 삭제해야 한다 (RedisStreamService 또는 직접 삭제).
      */
     public void deleteAllPhase3Keys() {
-        deleteKeysByPattern(STOCK_KEY_PREFIX + "*");
-        deleteKeysByPattern(INFLIGHT_KEY_PREFIX + "*");
-        deleteKeysByPattern(ISSUED_KEY_PREFIX + "*");
-        deleteKeysByPattern("coupon:ticket:*");
+        redisKeyCleaner.unlink(List.of(DIRTY_KEY));
+        redisKeyCleaner.cleanupNow(phase3KeyPatterns());
+    }
+
+    private String[] phase3KeyPatterns() {
+        return new String[] {
+                STOCK_KEY_PREFIX + "*",
+                INFLIGHT_KEY_PREFIX + "*",
+                ISSUED_KEY_PREFIX + "*",
+                "coupon:ticket:*",
+                RedisCodePoolService.POOL_KEY_PREFIX + "*",
+                RedisWaitingRoomService.KEY_PREFIX + "*"
+        };
     }
 
     public RedisTemplate<String, String> getRedisTemplate() {
@@ -244,22 +318,46 @@ public class RedisStockService {
 
     /**
      * 통합 Lua: 중복체크(issued+inflight) + 재고차감 + XADD 원자적 수행.
-     * 반환값: >= 0 성공(남은 재고), -1 재고소진, -2 쿠폰없음, -3 발급완료중복, -4 처리중중복
+     * 대기열 사용 시(coupon.waiting-room.enabled) 입장 허가가 유효한 사용자만 접수하고, 접수되면 허가를 소진한다.
+     * 반환값: >= 0 성공(남은 재고), -1 재고소진, -2 쿠폰없음, -3 발급완료중복, -4 처리중중복, -5 대기열 미입장
      */
     public long issueAtomically(String couponCode, String userId, String ticketId, String requestIp, String requestTime) {
-        List<String> keys = List.of(
+        return redisTemplate.execute(
+                new DefaultRedisScript<>(ISSUE_LUA_SCRIPT, Long.class),
+                issueKeys(couponCode),
+                issueArgs(couponCode, userId, ticketId, requestIp, requestTime).toArray()
+        );
+    }
+
+    /**
+     * issueAtomically와 같은 Lua를 Lettuce reactive 커넥션으로 실행 — 응답 대기 중 호출 스레드를 점유하지 않는다.
+     */
+    public CompletableFuture<Long> issueAtomicallyAsync(String couponCode, String userId, String ticketId,
+                                                        String requestIp, String requestTime) {
+        return reactiveRedisTemplate.execute(
+                        ISSUE_SCRIPT,
+                        issueKeys(couponCode),
+                        issueArgs(couponCode, userId, ticketId, requestIp, requestTime))
+                .next()
+                .toFuture();
+    }
+
+    private List<String> issueKeys(String couponCode) {
+        return List.of(
                 INFLIGHT_KEY_PREFIX + couponCode,
                 ISSUED_KEY_PREFIX + couponCode,
                 STOCK_KEY_PREFIX + couponCode,
-                STREAM_KEY
+                STREAM_KEY,
+                DIRTY_KEY,
+                RedisWaitingRoomService.ADMITTED_KEY_PREFIX + couponCode
         );
-        List<String> args = List.of(userId, ticketId, couponCode, requestIp, requestTime);
+    }
 
-        return redisTemplate.execute(
-                new DefaultRedisScript<>(ISSUE_LUA_SCRIPT, Long.class),
-                keys,
-                args.toArray()
-        );
+    private List<String> issueArgs(String couponCode, String userId, String ticketId,
+                                   String requestIp, String requestTime) {
+        return List.of(userId, ticketId, couponCode, requestIp, requestTime,
+                waitingRoomProperties.isEnabled() ? "1" : "0",
+                String.valueOf(System.currentTimeMillis()));
     }
 
     /**
@@ -268,8 +366,9 @@ public class RedisStockService {
     public void transitionToIssued(String couponCode, String userId) {
         Long result = redisTemplate.execute(
                 new DefaultRedisScript<>(TRANSITION_TO_ISSUED_LUA_SCRIPT, Long.class),
-                List.of(INFLIGHT_KEY_PREFIX + couponCode, ISSUED_KEY_PREFIX + couponCode),
-                userId
+                List.of(INFLIGHT_KEY_PREFIX + couponCode, ISSUED_KEY_PREFIX + couponCode, DIRTY_KEY),
+                userId,
+                couponCode
         );
 
         if (result != null && result == 0L) {
@@ -286,9 +385,11 @@ public class RedisStockService {
                 List.of(
                         INFLIGHT_KEY_PREFIX + couponCode,
                         ISSUED_KEY_PREFIX + couponCode,
-                        STOCK_KEY_PREFIX + couponCode
+                        STOCK_KEY_PREFIX + couponCode,
+                        DIRTY_KEY
                 ),
-                userId
+                userId,
+                couponCode
         );
 
         if (result == null) {
@@ -306,10 +407,44 @@ public class RedisStockService {
         }
     }
 
-    private void deleteKeysByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
+    /**
+     * reconcile 대상 쿠폰을 최대 count개 꺼낸다. 꺼낸 뒤 발생한 변경은 다시 dirty로 표시된다.
+     */
+    public List<String> popDirtyCoupons(long count) {
+        List<String> codes = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        return codes != null ? codes : List.of();
+    }
+
+    public void markDirty(Collection<String> couponCodes) {
+        if (!couponCodes.isEmpty()) {
+            redisTemplate.opsForSet().add(DIRTY_KEY, couponCodes.toArray(String[]::new));
+        }
+    }
+
+    public ReconcileResult reconcileStock(String couponCode, int dbRemainStock, Long confirmedDrift) {
+        List<?> result = redisTemplate.execute(
+                new DefaultRedisScript<>(RECONCILE_STOCK_LUA_SCRIPT, List.class),
+                List.of(STOCK_KEY_PREFIX + couponCode, INFLIGHT_KEY_PREFIX + couponCode, DIRTY_KEY),
+                couponCode,
+                String.valueOf(dbRemainStock),
+                confirmedDrift != null ? String.valueOf(confirmedDrift) : ""
+        );
+        if (result == null || result.size() < 2) {
+            throw new RedisOperationException("Redis 재고 reconcile 결과를 확인할 수 없습니다.");
         }
+        return new ReconcileResult(
+                ((Number) result.get(0)).longValue(),
+                ReconcileStatus.values()[((Number) result.get(1)).intValue()]
+        );
+    }
+
+    public enum ReconcileStatus {
+        OBSERVED,
+        CORRECTED,
+        BUSY,
+        INITIALIZED
+    }
+
+    public record ReconcileResult(long drift, ReconcileStatus status) {
     }
 }
@@ -13,6 +13,8 @@ import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,6 +22,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RedisStreamService {
 
+    // ARGV[1]: group, ARGV[2]: consumer, ARGV[3]: min-idle(ms), ARGV[4]: 시작 ID, ARGV[5]: COUNT
+    // 반환값: {다음 시작 ID, 옮긴 메시지 수}
+    private static final String AUTO_CLAIM_LUA_SCRIPT = """
+            local result = redis.call('xautoclaim', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], 'COUNT', ARGV[5], 'JUSTID')
+            return {result[1], tostring(#result[2])}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> AUTO_CLAIM_SCRIPT = new DefaultRedisScript<>(AUTO_CLAIM_LUA_SCRIPT, List.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public void createGroupIfNotExists(String streamKey, String groupName) {
@@ -63,8 +75,43 @@ public class RedisStreamService {
         return (List<MapRecord<String, String, String>>) records;
     }
 
-    public Long acknowledge(String streamKey, String groupName, RecordId recordId) {
-        return redisTemplate.opsForStream().acknowledge(streamKey, groupName, recordId);
+    public Long acknowledge(String streamKey, String groupName, RecordId... recordIds) {
+        return redisTemplate.opsForStream().acknowledge(streamKey, groupName, recordIds);
+    }
+
+    /**
+     * 해당 consumer의 PEL(ACK 전 메시지) 중 afterId보다 뒤의 메시지를 읽는다. 재시작/재시도 복구용.
+     * "0-0"부터 시작해 마지막으로 읽은 ID를 다음 afterId로 넘기면 실패로 남은 메시지에 막히지 않고 PEL 끝까지 훑는다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<MapRecord<String, String, String>> readOwnPending(
+            String streamKey, String groupName, String consumerName, int count, String afterId) {
+        List records = redisTemplate.opsForStream().read(
+                Consumer.from(groupName, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(streamKey, ReadOffset.from(afterId))
+        );
+        return (List<MapRecord<String, String, String>>) records;
+    }
+
+    /**
+     * XAUTOCLAIM JUSTID: minIdleTime 이상 ACK되지 않은 메시지(종료된 다른 consumer 소유 포함)를
+     * consumerName의 PEL로 옮긴다. 옮긴 메시지는 readOwnPending으로 처리한다.
+     * 반환된 nextId가 "0-0"이면 PEL을 한 바퀴 다 훑은 것이다.
+     */
+    @SuppressWarnings("unchecked")
+    public AutoClaimResult autoClaim(
+            String streamKey, String groupName, String consumerName,
+            Duration minIdleTime, String startId, int count) {
+        List<String> result = (List<String>) redisTemplate.execute(
+                AUTO_CLAIM_SCRIPT,
+                List.of(streamKey),
+                groupName, consumerName, String.valueOf(minIdleTime.toMillis()), startId, String.valueOf(count)
+        );
+        if (result == null || result.size() < 2) {
+            return new AutoClaimResult("0-0", 0);
+        }
+        return new AutoClaimResult(result.get(0), Long.parseLong(result.get(1)));
     }
 
     public PendingMessages pending(String streamKey, String groupName, long count) {
@@ -94,4 +141,7 @@ public class RedisStreamService {
                 org.springframework.data.redis.connection.Limit.limit().count((int) count));
         return (List<MapRecord<String, String, String>>) records;
     }
+
+    public record AutoClaimResult(String nextId, long claimedCount) {
+    }
 }
@@ -1,55 +1,431 @@
 package cloud.coupon.infra.redis.service;
 
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
-import cloud.coupon.domain.coupon.dto.response.TicketStatus;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+/**
+ * ticket은 TicketCodec 형식의 작은 HASH(coupon:ticket:h:{id})로 저장한다.
+ * 결과를 받을 SSE 노드도 같은 HASH의 n 필드에 기록해 ticket당 키는 1개.
+ * 결과 알림은 노드 채널로 발행한다 — 기본은 PUBLISH, coupon.result.sharded-pubsub=true면 SPUBLISH.
+ *
+ * 이전 형식(coupon:ticket:{id} JSON 문자열)과 키를 분리해 롤링 배포 중 WRONGTYPE이 나지 않게 하고,
+ * 조회는 이전 형식도 읽는다 (README 운영 migration 참고).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisTicketService {
 
-    private static final String TICKET_KEY_PREFIX = "coupon:ticket:";
-    private static final String RESULT_CHANNEL_PREFIX = "coupon:result:";
+    private static final String TICKET_KEY_PREFIX = "coupon:ticket:h:";
+    // 이전 형식(JSON 문자열) — TTL(5분) 동안만 남으므로 전환 배포 이후 릴리스에서 제거
+    private static final String LEGACY_TICKET_KEY_PREFIX = "coupon:ticket:";
+    private static final String USER_NODE_KEY_PREFIX = "coupon:user:node:";
+    private static final String NODE_CHANNEL_PREFIX = "coupon:result:node:";
+    private static final String SHARD_CHANNEL_PREFIX = "coupon:result:";
+    private static final String WORKER_SEQUENCE_KEY = "coupon:ticket-worker:seq";
+    private static final String WORKER_LEASE_KEY_PREFIX = "coupon:ticket-worker:lease:";
+    private static final String MESSAGE_DELIMITER = "|";
     private static final Duration TICKET_TTL = Duration.ofMinutes(5);
 
+    // ARGV[1]: TTL(ms), ARGV[2..]: field/value 쌍
+    private static final String SAVE_TICKET_LUA_SCRIPT = """
+            redis.call('hset', KEYS[1], unpack(ARGV, 2))
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    // ticket 키 하나만 다룬다 (클러스터에서 사용자 노드 키와 slot이 달라도 CROSSSLOT 없음)
+    // ARGV[1]: TTL(ms), ARGV[2]: 노드 필드명, ARGV[3]: 채널 prefix, ARGV[4]: payload, ARGV[5..]: field/value 쌍
+    // 반환값: 메시지를 받은 구독자 수, -2: ticket 구독 노드 없음 (호출자가 사용자 스트림 노드로 발행)
+    private static final String SAVE_AND_PUBLISH_LUA_SCRIPT = """
+            redis.call('hset', KEYS[1], unpack(ARGV, 5))
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            local node = redis.call('hget', KEYS[1], ARGV[2])
+            if not node then
+                return -2
+            end
+            return redis.call('publish', ARGV[3] .. node, ARGV[4])
+            """;
+
+    // sharded 모드: 노드 채널은 ticket과 다른 slot이라 같은 스크립트에서 SPUBLISH할 수 없다 → 노드만 반환
+    // ticket 키 하나만 다룬다 (사용자 노드 키는 다른 slot이므로 호출자가 별도 GET)
+    // ARGV[1]: TTL(ms), ARGV[2]: 노드 필드명, ARGV[3..]: field/value 쌍
+    private static final String SAVE_AND_FIND_NODE_LUA_SCRIPT = """
+            redis.call('hset', KEYS[1], unpack(ARGV, 3))
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return redis.call('hget', KEYS[1], ARGV[2])
+            """;
+
+    // shard 채널을 KEYS로 넘겨 클러스터에서 채널 slot을 가진 노드로 라우팅되게 한다
+    private static final String SPUBLISH_LUA_SCRIPT = """
+            return redis.call('spublish', KEYS[1], ARGV[1])
+            """;
+
+    // 만료된 ticket에 노드 필드만 남는(TTL 없는 HASH) 일이 없도록 존재할 때만 기록
+    private static final String REGISTER_NODE_LUA_SCRIPT = """
+            if redis.call('exists', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('hset', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """;
+
+    // 내 lease면 연장, 만료되어 비어 있으면 다시 확보. 다른 노드가 가져갔으면 0
+    // ARGV[1]: 소유자, ARGV[2]: lease TTL(ms)
+    private static final String RENEW_WORKER_LEASE_LUA_SCRIPT = """
+            local owner = redis.call('get', KEYS[1])
+            if owner == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            if not owner then
+                redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """;
+
+    // 사용자 노드 등록·worker lease 해제 공용: 값이 소유자와 같을 때만 삭제
+    private static final String DELETE_IF_OWNER_LUA_SCRIPT = """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """;
+
+    private static final long NO_TICKET_NODE = -2;
+
+    private static final RedisScript<Long> SAVE_TICKET_SCRIPT = RedisScript.of(SAVE_TICKET_LUA_SCRIPT, Long.class);
+    private static final RedisScript<Long> SAVE_AND_PUBLISH_SCRIPT = RedisScript.of(SAVE_AND_PUBLISH_LUA_SCRIPT, Long.class);
+    private static final RedisScript<String> SAVE_AND_FIND_NODE_SCRIPT =
+            RedisScript.of(SAVE_AND_FIND_NODE_LUA_SCRIPT, String.class);
+    private static final RedisScript<Long> SPUBLISH_SCRIPT = RedisScript.of(SPUBLISH_LUA_SCRIPT, Long.class);
+    private static final RedisScript<Long> RENEW_WORKER_LEASE_SCRIPT =
+            RedisScript.of(RENEW_WORKER_LEASE_LUA_SCRIPT, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
     private final ObjectMapper objectMapper;
 
-    public void saveTicket(String ticketId, TicketResponse response) {
-        try {
-            String json = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(TICKET_KEY_PREFIX + ticketId, json, TICKET_TTL);
-        } catch (JsonProcessingException e) {
-            log.error("ticket 직렬화 실패: ticketId={}", ticketId, e);
-        }
+    @Value("${coupon.result.sharded-pubsub:false}")
+    private boolean shardedPubSub;
+
+    /**
+     * 접수 ticket 저장. 발급 요청자(userId)를 함께 기록해 사용자 스트림에서 소유를 확인한다.
+     */
+    public void saveTicket(String ticketId, TicketResponse response, String userId) {
+        redisTemplate.execute(SAVE_TICKET_SCRIPT, List.of(TICKET_KEY_PREFIX + ticketId),
+                saveArgs(response, userId).toArray());
+    }
+
+    public CompletableFuture<Void> saveTicketAsync(String ticketId, TicketResponse response, String userId) {
+        return reactiveRedisTemplate.execute(SAVE_TICKET_SCRIPT, List.of(TICKET_KEY_PREFIX + ticketId),
+                        saveArgs(response, userId))
+                .then()
+                .toFuture();
+    }
+
+    private List<String> saveArgs(TicketResponse response, String userId) {
+        List<String> args = new ArrayList<>(9);
+        args.add(String.valueOf(TICKET_TTL.toMillis()));
+        appendFields(args, response);
+        args.add(TicketCodec.USER);
+        args.add(userId);
+        return args;
+    }
+
+    private void appendFields(List<String> args, TicketResponse response) {
+        TicketCodec.encode(response).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
     }
 
     public Optional<TicketResponse> getTicket(String ticketId) {
-        String json = redisTemplate.opsForValue().get(TICKET_KEY_PREFIX + ticketId);
+        Map<String, String> fields = redisTemplate.<String, String>opsForHash().entries(TICKET_KEY_PREFIX + ticketId);
+        TicketResponse ticket = TicketCodec.decode(ticketId, fields);
+        if (ticket != null) {
+            return Optional.of(ticket);
+        }
+        return Optional.ofNullable(decodeLegacy(ticketId, redisTemplate.opsForValue().get(LEGACY_TICKET_KEY_PREFIX + ticketId)));
+    }
+
+    /**
+     * 여러 ticket을 HGETALL pipeline 1회로 조회. 반환 맵에는 존재하는 ticket만 요청 순서대로 담긴다.
+     */
+    public Map<String, TicketResponse> getTickets(List<String> ticketIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String ticketId : ticketIds) {
+                connection.hashCommands().hGetAll((TICKET_KEY_PREFIX + ticketId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<String, TicketResponse> tickets = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < ticketIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> fields = (Map<String, String>) results.get(i);
+            TicketResponse ticket = TicketCodec.decode(ticketIds.get(i), fields);
+            tickets.put(ticketIds.get(i), ticket);
+            if (ticket == null) {
+                missing.add(ticketIds.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<String> legacyValues = redisTemplate.opsForValue().multiGet(
+                    missing.stream().map(ticketId -> LEGACY_TICKET_KEY_PREFIX + ticketId).toList());
+            for (int i = 0; i < missing.size(); i++) {
+                tickets.put(missing.get(i), legacyValues != null ? decodeLegacy(missing.get(i), legacyValues.get(i)) : null);
+            }
+        }
+        tickets.values().removeIf(Objects::isNull);
+        return tickets;
+    }
+
+    public Optional<String> getTicketOwner(String ticketId) {
+        return Optional.ofNullable(
+                redisTemplate.<String, String>opsForHash().get(TICKET_KEY_PREFIX + ticketId, TicketCodec.USER));
+    }
+
+    /**
+     * ticket 발급 요청자를 HGET pipeline 1회로 조회. 반환 맵에는 소유자가 기록된 ticket만 담긴다.
+     */
+    public Map<String, String> getTicketOwners(List<String> ticketIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String ticketId : ticketIds) {
+                connection.hashCommands().hGet(
+                        (TICKET_KEY_PREFIX + ticketId).getBytes(StandardCharsets.UTF_8),
+                        TicketCodec.USER.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<String, String> owners = new LinkedHashMap<>();
+        for (int i = 0; i < ticketIds.size(); i++) {
+            if (results.get(i) != null) {
+                owners.put(ticketIds.get(i), (String) results.get(i));
+            }
+        }
+        return owners;
+    }
+
+    /**
+     * ticket 키의 남은 TTL을 PTTL pipeline 1회로 조회. 키가 없거나(이전 형식 ticket 포함) TTL이 없으면 맵에 담지 않는다.
+     */
+    public Map<String, Duration> getRemainingTtls(List<String> ticketIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String ticketId : ticketIds) {
+                connection.keyCommands().pTtl((TICKET_KEY_PREFIX + ticketId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<String, Duration> ttls = new LinkedHashMap<>();
+        for (int i = 0; i < ticketIds.size(); i++) {
+            if (results.get(i) instanceof Long millis && millis > 0) {
+                ttls.put(ticketIds.get(i), Duration.ofMillis(millis));
+            }
+        }
+        return ttls;
+    }
+
+    // 이전 형식 ticket(JSON). 롤링 배포 중 이전 버전 노드가 쓴 ticket 조회용
+    private TicketResponse decodeLegacy(String ticketId, String json) {
         if (json == null) {
-            return Optional.empty();
+            return null;
         }
         try {
-            return Optional.of(objectMapper.readValue(json, TicketResponse.class));
+            return objectMapper.readValue(json, TicketResponse.class);
         } catch (JsonProcessingException e) {
-            log.error("ticket 역직렬화 실패: ticketId={}", ticketId, e);
-            return Optional.empty();
+            log.warn("이전 형식 ticket 해석 실패: ticketId={}", ticketId);
+            return null;
+        }
+    }
+
+    /**
+     * SSE 구독 노드 등록. 결과는 이 노드의 채널로만 발행된다.
+     */
+    public void registerSubscriberNode(String ticketId, String nodeId) {
+        redisTemplate.execute(
+                new DefaultRedisScript<>(REGISTER_NODE_LUA_SCRIPT, Long.class),
+                List.of(TICKET_KEY_PREFIX + ticketId),
+                TicketCodec.NODE,
+                nodeId
+        );
+    }
+
+    /**
+     * 사용자 통합 스트림 노드 등록. 구독 노드가 없는 ticket의 결과는 이 노드로 발행된다.
+     */
+    public void registerUserStreamNode(String userId, String nodeId, Duration ttl) {
+        redisTemplate.opsForValue().set(USER_NODE_KEY_PREFIX + userId, nodeId, ttl);
+    }
+
+    // 다른 노드에서 새로 연 스트림 등록은 지우지 않는다
+    public void unregisterUserStreamNode(String userId, String nodeId) {
+        redisTemplate.execute(
+                new DefaultRedisScript<>(DELETE_IF_OWNER_LUA_SCRIPT, Long.class),
+                List.of(USER_NODE_KEY_PREFIX + userId),
+                nodeId
+        );
+    }
+
+    /**
+     * ticketId worker id lease 확보: id마다 lease 키(SET NX PX)를 두고 비어 있는 id를 가져간다.
+     * 탐색 시작점만 순번으로 흩어 노드가 동시에 기동해도 같은 id를 두고 경합하지 않게 한다.
+     * 반환값: 확보한 id, 모든 id가 사용 중이면 empty (호출자는 기동을 중단한다)
+     */
+    public OptionalInt acquireWorkerId(int workerCount, String owner, Duration ttl) {
+        Long sequence = redisTemplate.opsForValue().increment(WORKER_SEQUENCE_KEY);
+        long start = sequence != null ? sequence - 1 : 0;
+        for (int i = 0; i < workerCount; i++) {
+            int workerId = (int) Math.floorMod(start + i, (long) workerCount);
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(WORKER_LEASE_KEY_PREFIX + workerId, owner, ttl))) {
+                return OptionalInt.of(workerId);
+            }
         }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * 반환값: lease를 계속 보유하면 true, 다른 소유자가 가져갔으면 false
+     */
+    public boolean renewWorkerId(int workerId, String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(
+                RENEW_WORKER_LEASE_SCRIPT,
+                List.of(WORKER_LEASE_KEY_PREFIX + workerId),
+                owner,
+                String.valueOf(ttl.toMillis())
+        );
+        return renewed != null && renewed == 1;
+    }
+
+    public void releaseWorkerId(int workerId, String owner) {
+        redisTemplate.execute(
+                new DefaultRedisScript<>(DELETE_IF_OWNER_LUA_SCRIPT, Long.class),
+                List.of(WORKER_LEASE_KEY_PREFIX + workerId),
+                owner
+        );
+    }
+
+    public Duration getTicketTtl() {
+        return TICKET_TTL;
+    }
+
+    public boolean isShardedPubSub() {
+        return shardedPubSub;
     }
 
-    public void publishResult(String ticketId, TicketStatus status) {
-        redisTemplate.convertAndSend(RESULT_CHANNEL_PREFIX + ticketId, status.name());
+    /**
+     * sharded 모드의 채널은 노드 id를 hash tag로 감싸 채널 하나가 한 shard에만 속하게 한다.
+     * SPUBLISH는 그 shard 안에서만 전파되므로 Redis 노드가 늘어도 알림 비용이 일정하다.
+     */
+    public String getNodeChannelName(String nodeId) {
+        if (shardedPubSub) {
+            return SHARD_CHANNEL_PREFIX + "{" + nodeId + "}";
+        }
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    /**
+     * 최종 결과 저장 + 구독 노드 조회 + 발행을 Lua 1회로 처리 (sharded 모드는 저장·조회 Lua 후 SPUBLISH 1회).
+     * 노드 우선순위: ticket 단건 구독 노드 → 사용자 통합 스트림 노드.
+     * 사용자 노드 키는 ticket과 다른 slot이므로 ticket 구독 노드가 없을 때만 별도 GET 후 발행한다.
+     * payload는 "ticketId|userId|상태코드|발급코드|메시지" — SSE 노드가 GET 없이 바로 전달할 수 있게 결과 전체를 싣는다.
+     * 구독 노드가 없으면 발행하지 않는다 (구독 시 재확인 또는 /status로 조회).
+     * 반환값: 메시지를 받은 구독자 수 (-1: 구독 노드 없음)
+     */
+    public long saveAndPublishResult(TicketResponse response, String userId) {
+        String ticketId = response.getTicketId();
+        Map<String, String> fields = TicketCodec.encode(response);
+        String payload = String.join(MESSAGE_DELIMITER,
+                ticketId,
+                userId,
+                fields.get(TicketCodec.STATUS),
+                fields.getOrDefault(TicketCodec.ISSUED_CODE, ""),
+                fields.getOrDefault(TicketCodec.MESSAGE, ""));
+        if (shardedPubSub) {
+            return saveAndSPublishResult(response, userId, payload);
+        }
+
+        List<String> args = new ArrayList<>(10);
+        args.add(String.valueOf(TICKET_TTL.toMillis()));
+        args.add(TicketCodec.NODE);
+        args.add(NODE_CHANNEL_PREFIX);
+        args.add(payload);
+        appendFields(args, response);
+
+        Long receivers = redisTemplate.execute(SAVE_AND_PUBLISH_SCRIPT, List.of(TICKET_KEY_PREFIX + ticketId), args.toArray());
+        if (receivers == null || receivers != NO_TICKET_NODE) {
+            return receivers != null ? receivers : -1;
+        }
+        String userNode = redisTemplate.opsForValue().get(USER_NODE_KEY_PREFIX + userId);
+        if (userNode == null) {
+            return -1;
+        }
+        Long userReceivers = redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + userNode, payload);
+        return userReceivers != null ? userReceivers : -1;
+    }
+
+    // 저장과 ticket 노드 조회는 원자적으로, 발행만 뒤따른다. 구독 노드는 등록 직후 재확인하므로 순서가 갈려도 결과는 전달된다
+    private long saveAndSPublishResult(TicketResponse response, String userId, String payload) {
+        List<String> args = new ArrayList<>(8);
+        args.add(String.valueOf(TICKET_TTL.toMillis()));
+        args.add(TicketCodec.NODE);
+        appendFields(args, response);
+
+        String node = redisTemplate.execute(
+                SAVE_AND_FIND_NODE_SCRIPT, List.of(TICKET_KEY_PREFIX + response.getTicketId()), args.toArray());
+        if (node == null) {
+            node = redisTemplate.opsForValue().get(USER_NODE_KEY_PREFIX + userId);
+        }
+        if (node == null) {
+            return -1;
+        }
+        Long receivers = redisTemplate.execute(SPUBLISH_SCRIPT, List.of(getNodeChannelName(node)), payload);
+        return receivers != null ? receivers : -1;
+    }
+
+    /**
+     * Pub/Sub payload → ticket. 결과 해석에 실패하면 ticket은 null → 호출자가 GET으로 대체
+     */
+    public ResultMessage parseResultMessage(String payload) {
+        // 메시지는 마지막 필드라 구분자를 포함해도 된다
+        String[] parts = payload.split("\\|", 5);
+        if (parts.length < 5) {
+            return new ResultMessage(null, null, null);
+        }
+        String ticketId = parts[0];
+        TicketResponse ticket = TicketCodec.decode(ticketId, parts[2],
+                parts[3].isEmpty() ? null : parts[3],
+                parts[4].isEmpty() ? null : parts[4]);
+        if (ticket == null) {
+            log.warn("결과 메시지 해석 실패, GET으로 대체: ticketId={}", ticketId);
+        }
+        return new ResultMessage(ticketId, parts[1], ticket);
     }
 
-    public String getResultChannelName(String ticketId) {
-        return RESULT_CHANNEL_PREFIX + ticketId;
+    public record ResultMessage(String ticketId, String userId, TicketResponse ticket) {
     }
 }
@@ -0,0 +1,103 @@
+package cloud.coupon.infra.redis.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 사용 수량 카운터.
+ * 사용 트랜잭션은 coupon row를 건드리지 않고 Redis HINCRBY만 수행하며,
+ * UsedCountFlushScheduler가 누적 delta를 주기적으로 Coupon.usedCount에 반영한다.
+ *
+ * flush는 pending → processing HASH로 옮긴 뒤 DB 커밋이 끝난 쿠폰만 processing에서 차감한다.
+ * 반영 전에 프로세스가 죽거나 롤백되어도 delta는 processing에 남아 다음 주기에 다시 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisUsedCountService {
+
+    private static final String PENDING_USED_COUNT_KEY = "coupon:used:pending";
+    private static final String PROCESSING_USED_COUNT_KEY = "coupon:used:processing";
+    // flush 중인 노드 표시 — 여러 consumer가 같은 processing을 이중 반영하지 않도록
+    private static final String FLUSH_LEASE_KEY = "coupon:used:flush-lease";
+    private static final Duration FLUSH_LEASE_TTL = Duration.ofSeconds(30);
+
+    // ARGV[1]: lease 소유자, ARGV[2]: lease TTL(ms)
+    // pending을 processing에 합쳐(이전 주기에 반영 실패한 delta 포함) 전체를 반환. 다른 노드가 flush 중이면 빈 목록
+    private static final String CLAIM_LUA_SCRIPT = """
+            if not redis.call('set', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return {}
+            end
+            local pending = redis.call('hgetall', KEYS[1])
+            for i = 1, #pending, 2 do
+                redis.call('hincrby', KEYS[2], pending[i], pending[i + 1])
+            end
+            redis.call('del', KEYS[1])
+            return redis.call('hgetall', KEYS[2])
+            """;
+
+    // DB 반영이 끝난 delta만큼 차감 (claim 이후 합쳐진 delta는 남는다)
+    private static final String ACKNOWLEDGE_LUA_SCRIPT = """
+            if redis.call('hincrby', KEYS[1], ARGV[1], -tonumber(ARGV[2])) <= 0 then
+                redis.call('hdel', KEYS[1], ARGV[1])
+            end
+            return 1
+            """;
+
+    private static final String RELEASE_LUA_SCRIPT = """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(CLAIM_LUA_SCRIPT, List.class);
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = RedisScript.of(ACKNOWLEDGE_LUA_SCRIPT, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(RELEASE_LUA_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void increaseUsedCount(String couponCode, long delta) {
+        redisTemplate.opsForHash().increment(PENDING_USED_COUNT_KEY, couponCode, delta);
+    }
+
+    /**
+     * 반영할 delta 확보. 다른 노드가 flush 중이면 빈 맵.
+     * 반환된 delta는 DB 커밋 후 acknowledge해야 processing에서 빠지고, 마지막에 releaseClaim을 호출한다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> claimPendingUsedCounts(String owner) {
+        List<String> entries = (List<String>) redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(PENDING_USED_COUNT_KEY, PROCESSING_USED_COUNT_KEY, FLUSH_LEASE_KEY),
+                owner,
+                String.valueOf(FLUSH_LEASE_TTL.toMillis())
+        );
+        if (entries == null || entries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> pending = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            pending.put(entries.get(i), Long.parseLong(entries.get(i + 1)));
+        }
+        return pending;
+    }
+
+    public void acknowledgeUsedCount(String couponCode, long delta) {
+        redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(PROCESSING_USED_COUNT_KEY), couponCode, String.valueOf(delta));
+    }
+
+    public void releaseClaim(String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(FLUSH_LEASE_KEY), owner);
+    }
+}
@@ -0,0 +1,187 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.config.WaitingRoomProperties;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 오픈 대기열.
+ * 대기열은 도착 순번을 score로 하는 ZSET, 입장 허가는 만료 시각(ms)을 score로 하는 ZSET.
+ * wave마다 min(wave 크기, 남은 재고 - 유효한 입장 허가 수)명만 입장시키므로
+ * 발급 Lua에 도달하는 요청 수는 대기 인원이 아니라 남은 재고에 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisWaitingRoomService {
+
+    static final String KEY_PREFIX = "coupon:waiting:";
+    static final String QUEUE_KEY_PREFIX = KEY_PREFIX + "queue:";
+    static final String ADMITTED_KEY_PREFIX = KEY_PREFIX + "admitted:";
+    static final String SEQUENCE_KEY_PREFIX = KEY_PREFIX + "seq:";
+    private static final String WAVE_LOCK_KEY_PREFIX = KEY_PREFIX + "wave:";
+    // 대기열이 있는 쿠폰 코드 — wave 스케줄러가 전체 쿠폰을 훑지 않도록
+    private static final String ACTIVE_KEY = KEY_PREFIX + "active";
+    private static final String STOCK_KEY_PREFIX = RedisStockService.STOCK_KEY_PREFIX;
+    private static final String ISSUED_KEY_PREFIX = "coupon:issued:";
+
+    public static final long ADMITTED = 0;
+    public static final long RESULT_OUT_OF_STOCK = -1;
+    public static final long RESULT_NOT_FOUND = -2;
+    public static final long RESULT_ALREADY_ISSUED = -3;
+    public static final long RESULT_NOT_WAITING = -6;
+
+    // ARGV[1]: userId, ARGV[2]: 현재 시각(ms), ARGV[3]: 쿠폰 코드, ARGV[4]: '1'이면 대기열에 없을 때 등록
+    private static final String ENTER_LUA_SCRIPT = """
+            local queue_key    = KEYS[1]
+            local admitted_key = KEYS[2]
+            local stock_key    = KEYS[3]
+            local issued_key   = KEYS[4]
+            local seq_key      = KEYS[5]
+            local active_key   = KEYS[6]
+            local user_id      = ARGV[1]
+
+            if redis.call('sismember', issued_key, user_id) == 1 then
+                return -3
+            end
+            local admitted_until = redis.call('zscore', admitted_key, user_id)
+            if admitted_until and tonumber(admitted_until) > tonumber(ARGV[2]) then
+                return 0
+            end
+            local stock = redis.call('get', stock_key)
+            if not stock then return -2 end
+            if tonumber(stock) <= 0 then return -1 end
+
+            if not redis.call('zscore', queue_key, user_id) then
+                if ARGV[4] ~= '1' then
+                    return -6
+                end
+                -- 재진입해도 순번 유지 (이미 있으면 건너뜀)
+                redis.call('zadd', queue_key, redis.call('incr', seq_key), user_id)
+                redis.call('sadd', active_key, ARGV[3])
+            end
+            return redis.call('zrank', queue_key, user_id) + 1
+            """;
+
+    // ARGV[1]: 현재 시각(ms), ARGV[2]: 허가 유효 시간(ms), ARGV[3]: wave 크기, ARGV[4]: wave 주기(ms), ARGV[5]: 쿠폰 코드
+    // 반환값: 이번 wave 입장 인원 (-1: 다른 노드가 이번 주기 wave를 이미 수행)
+    private static final String ADMIT_WAVE_LUA_SCRIPT = """
+            local queue_key    = KEYS[1]
+            local admitted_key = KEYS[2]
+            local stock_key    = KEYS[3]
+            local lock_key     = KEYS[4]
+            local active_key   = KEYS[5]
+            local now_ms       = tonumber(ARGV[1])
+
+            if not redis.call('set', lock_key, '1', 'NX', 'PX', ARGV[4]) then
+                return -1
+            end
+            redis.call('zremrangebyscore', admitted_key, '-inf', now_ms)
+
+            local stock = tonumber(redis.call('get', stock_key) or '0')
+            if stock <= 0 then
+                -- 소진: 대기자는 조회 시 재고 소진을 받는다
+                redis.call('del', queue_key)
+                redis.call('srem', active_key, ARGV[5])
+                return 0
+            end
+
+            local room = math.min(stock - redis.call('zcard', admitted_key), tonumber(ARGV[3]))
+            local admitted = 0
+            if room > 0 then
+                local popped = redis.call('zpopmin', queue_key, room)
+                local expire_at = now_ms + tonumber(ARGV[2])
+                for i = 1, #popped, 2 do
+                    redis.call('zadd', admitted_key, expire_at, popped[i])
+                    admitted = admitted + 1
+                end
+            end
+            if redis.call('zcard', queue_key) == 0 and redis.call('zcard', admitted_key) == 0 then
+                redis.call('srem', active_key, ARGV[5])
+            end
+            return admitted
+            """;
+
+    private static final RedisScript<Long> ENTER_SCRIPT = RedisScript.of(ENTER_LUA_SCRIPT, Long.class);
+    private static final RedisScript<Long> ADMIT_WAVE_SCRIPT = RedisScript.of(ADMIT_WAVE_LUA_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WaitingRoomProperties waitingRoomProperties;
+
+    /**
+     * 대기열 등록 (이미 대기 중이면 순번 유지).
+     * 반환값: >= 1 대기 순번, 0 입장 허가됨, -1 재고소진, -2 쿠폰없음, -3 발급완료중복
+     */
+    public long enter(String couponCode, String userId) {
+        return executeEnter(couponCode, userId, true);
+    }
+
+    /**
+     * 대기 상태 조회 (등록하지 않는다). 반환값은 enter와 같고 대기열에 없으면 -6
+     */
+    public long getPosition(String couponCode, String userId) {
+        return executeEnter(couponCode, userId, false);
+    }
+
+    private long executeEnter(String couponCode, String userId, boolean enqueue) {
+        Long result = redisTemplate.execute(
+                ENTER_SCRIPT,
+                List.of(
+                        QUEUE_KEY_PREFIX + couponCode,
+                        ADMITTED_KEY_PREFIX + couponCode,
+                        STOCK_KEY_PREFIX + couponCode,
+                        ISSUED_KEY_PREFIX + couponCode,
+                        SEQUENCE_KEY_PREFIX + couponCode,
+                        ACTIVE_KEY),
+                userId,
+                String.valueOf(System.currentTimeMillis()),
+                couponCode,
+                enqueue ? "1" : "0"
+        );
+        return result != null ? result : RESULT_NOT_WAITING;
+    }
+
+    /**
+     * 대기열 앞에서 min(wave 크기, 남은 재고 - 유효 허가 수)명을 입장시킨다.
+     * 주기당 1회 잠금으로 여러 노드가 동시에 호출해도 클러스터 전체에서 wave는 1번이다.
+     * 반환값: 입장 인원 (-1: 이번 주기 wave가 이미 수행됨)
+     */
+    public long admitWave(String couponCode) {
+        Long admitted = redisTemplate.execute(
+                ADMIT_WAVE_SCRIPT,
+                List.of(
+                        QUEUE_KEY_PREFIX + couponCode,
+                        ADMITTED_KEY_PREFIX + couponCode,
+                        STOCK_KEY_PREFIX + couponCode,
+                        WAVE_LOCK_KEY_PREFIX + couponCode,
+                        ACTIVE_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(waitingRoomProperties.getAdmissionTtlMs()),
+                String.valueOf(waitingRoomProperties.getWaveSize()),
+                String.valueOf(waitingRoomProperties.getWaveIntervalMs()),
+                couponCode
+        );
+        return admitted != null ? admitted : 0;
+    }
+
+    public Set<String> getActiveCouponCodes() {
+        Set<String> codes = redisTemplate.opsForSet().members(ACTIVE_KEY);
+        return codes != null ? codes : Set.of();
+    }
+
+    /**
+     * 순번 기준 예상 대기 시간: 앞선 wave 수 × wave 주기
+     */
+    public long estimateWaitMs(long position) {
+        if (position <= 0) {
+            return 0;
+        }
+        long waves = (position + waitingRoomProperties.getWaveSize() - 1) / waitingRoomProperties.getWaveSize();
+        return waves * waitingRoomProperties.getWaveIntervalMs();
+    }
+}
@@ -0,0 +1,121 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.infra.redis.service.RedisStockService.ReconcileResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * dirty 쿠폰만 대상으로 Redis 재고를 DB 기준(expected = db_remain - |inflight|)과 비교한다.
+ * DB 커밋 ~ inflight 전이 사이의 일시적 차이를 보정하지 않도록,
+ * 변경이 없는 상태에서 같은 drift가 연속 2회 관측될 때만 보정한다.
+ */
+@Slf4j
+@Service
+public class StockReconciler {
+
+    private final CouponRepository couponRepository;
+    private final RedisStockService redisStockService;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary driftSummary;
+    private final Counter correctionCounter;
+
+    // 첫 관측된 drift (확인 대기)
+    private final Map<String, Long> pendingDrifts = new ConcurrentHashMap<>();
+
+    @Value("${coupon.stock.reconcile-batch-size:500}")
+    private int batchSize;
+
+    public StockReconciler(CouponRepository couponRepository,
+                           RedisStockService redisStockService,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.redisStockService = redisStockService;
+        this.transactionTemplate = transactionTemplate;
+        this.driftSummary = DistributionSummary.builder("coupon.stock.drift")
+                .description("Redis 재고와 expected(db_remain - inflight)의 차이 (절대값)")
+                .register(meterRegistry);
+        this.correctionCounter = Counter.builder("coupon.stock.drift.corrected")
+                .description("drift 보정 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 반환값: 이번 실행에서 검사한 쿠폰 수
+     */
+    public int reconcileDirtyCoupons() {
+        List<String> codes = redisStockService.popDirtyCoupons(batchSize);
+        if (codes.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Integer> dbRemainStocks;
+        try {
+            // 쓰기 트랜잭션으로 감싸 replica 라우팅을 피한다 (replica 지연 = 가짜 drift)
+            dbRemainStocks = transactionTemplate.execute(status ->
+                    couponRepository.findActiveStockSnapshots(codes).stream()
+                            .collect(Collectors.toMap(CouponStockSnapshot::code, CouponStockSnapshot::remainStock)));
+        } catch (Exception e) {
+            redisStockService.markDirty(codes);
+            throw e;
+        }
+
+        List<String> recheck = new ArrayList<>();
+        for (String code : codes) {
+            Integer dbRemainStock = dbRemainStocks.get(code);
+            if (dbRemainStock == null) {
+                pendingDrifts.remove(code); // 삭제/비활성 쿠폰
+                continue;
+            }
+            try {
+                reconcile(code, dbRemainStock, recheck);
+            } catch (Exception e) {
+                log.error("[{}] 재고 reconcile 실패: {}", code, e.getMessage());
+                recheck.add(code);
+            }
+        }
+        redisStockService.markDirty(recheck);
+        return codes.size();
+    }
+
+    private void reconcile(String code, int dbRemainStock, List<String> recheck) {
+        ReconcileResult result = redisStockService.reconcileStock(code, dbRemainStock, pendingDrifts.get(code));
+        switch (result.status()) {
+            case BUSY -> {
+                // 진행 중인 발급/확정이 다시 dirty로 표시했으므로 다음 실행에서 재검사
+            }
+            case CORRECTED -> {
+                pendingDrifts.remove(code);
+                driftSummary.record(Math.abs(result.drift()));
+                correctionCounter.increment();
+                log.warn("[{}] Redis 재고 drift 보정 | drift: {} dbRemain: {}", code, result.drift(), dbRemainStock);
+            }
+            case INITIALIZED -> {
+                pendingDrifts.remove(code);
+                log.warn("[{}] Redis 재고 키 없음 → expected로 생성 | stock: {}", code, result.drift());
+            }
+            case OBSERVED -> {
+                if (result.drift() == 0) {
+                    pendingDrifts.remove(code);
+                    return;
+                }
+                pendingDrifts.put(code, result.drift());
+                recheck.add(code);
+                log.info("[{}] Redis 재고 drift 관측, 다음 실행에서 확인 | drift: {}", code, result.drift());
+            }
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package cloud.coupon.infra.redis.service;
 
-import cloud.coupon.domain.coupon.entity.Coupon;
-import cloud.coupon.domain.coupon.repository.CouponRepository;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -15,26 +12,22 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "coupon.scheduler.stock-sync-enabled", havingValue = "true", matchIfMissing = true)
 public class StockSyncScheduler {
 
-    private final CouponRepository couponRepository;
-    private final RedisStockService redisStockService;
+    private final StockReconciler stockReconciler;
 
     /**
-     * 주기적으로 active 쿠폰의 Redis 재고를 DB 기준으로 보정합니다.
+     * 주기적으로 Redis 재고를 DB 기준으로 보정합니다.
      * repair/reconciliation 용도이며, 정상 경로 정합성 보장 메커니즘이 아닙니다.
      *
-     * 초기 버전: active coupon 전체를 순회.
-     * 쿠폰 수가 커지면 최근 발급된 subset 또는 불일치 감지 대상만 처리하도록 범위 축소 예정.
+     * 마지막 실행 이후 발급/확정/복구가 일어난 쿠폰(dirty set)만 처리하므로
+     * 비용은 전체 쿠폰 수가 아니라 활성 쿠폰 수에 비례합니다.
      */
     @Scheduled(fixedDelayString = "${coupon.stock-sync-delay-ms:60000}")
     public void syncStocks() {
-        log.debug("재고 동기화 스케줄러 실행");
-        List<Coupon> activeCoupons = couponRepository.findAllActiveCoupons();
-        for (Coupon coupon : activeCoupons) {
-            try {
-                redisStockService.syncStockWithDB(coupon.getCode(), coupon.getRemainStock());
-            } catch (Exception e) {
-                log.error("[{}] 재고 동기화 실패: {}", coupon.getCode(), e.getMessage());
-            }
+        try {
+            int checked = stockReconciler.reconcileDirtyCoupons();
+            log.debug("재고 reconcile 실행 | checked: {}", checked);
+        } catch (Exception e) {
+            log.error("재고 reconcile 실패: {}", e.getMessage());
         }
     }
 }
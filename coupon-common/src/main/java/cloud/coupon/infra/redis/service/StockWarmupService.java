@@ -0,0 +1,174 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시작 시 active 쿠폰 재고를 Redis에 적재하는 warm-up.
+ * 별도 스레드에서 projection을 id keyset으로 페이지 단위 조회 → 페이지별 pipelined SET으로 기록한다.
+ * 완료 전까지 readiness는 DOWN (coupon-api StockWarmupHealthIndicator).
+ * 실패하면 지수 backoff(최대 max-backoff-ms)로 완료될 때까지 재시도한다 — DB/Redis가 늦게 올라와도 pod가 스스로 ready가 된다.
+ *
+ * policy
+ *  - IF_ABSENT: 키가 없을 때만 SET NX (기본) — 판매 중 롤링 배포가 라이브 재고를 덮어쓰지 않음
+ *  - OVERWRITE: DB 잔여 재고로 덮어씀 — Redis를 DB 기준으로 재구성할 때만 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockWarmupService {
+
+    public enum Policy {
+        IF_ABSENT,
+        OVERWRITE
+    }
+
+    public enum State {
+        DISABLED,
+        RUNNING,
+        COMPLETED,
+        RETRYING  // 직전 시도 실패, backoff 후 재시도 예정
+    }
+
+    private final CouponRepository couponRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${coupon.stock.sync-on-startup:true}")
+    private boolean syncStockOnStartup;
+
+    @Value("${coupon.stock.warmup.policy:IF_ABSENT}")
+    private Policy policy;
+
+    @Value("${coupon.stock.warmup.page-size:1000}")
+    private int pageSize;
+
+    @Value("${coupon.stock.warmup.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${coupon.stock.warmup.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    private volatile State state = State.DISABLED;
+    private volatile String lastError;
+    private final AtomicLong warmedCount = new AtomicLong();
+    private Thread warmupThread;
+
+    @PostConstruct
+    public void start() {
+        if (!syncStockOnStartup) {
+            log.info("Redis 재고 시작 동기화 비활성화");
+            return;
+        }
+        validateSettings();
+        state = State.RUNNING;
+        warmupThread = new Thread(this::runWithRetry, "stock-warmup");
+        warmupThread.setDaemon(true);
+        warmupThread.start();
+    }
+
+    // 설정 오류는 재시도해도 낫지 않으므로 기동 시 실패시킨다
+    private void validateSettings() {
+        if (pageSize < 1) {
+            throw new IllegalStateException("coupon.stock.warmup.page-size는 1 이상이어야 합니다: " + pageSize);
+        }
+        if (initialBackoffMs < 1 || maxBackoffMs < initialBackoffMs) {
+            throw new IllegalStateException("coupon.stock.warmup backoff 설정 오류: initial-backoff-ms="
+                    + initialBackoffMs + ", max-backoff-ms=" + maxBackoffMs);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (warmupThread != null) {
+            warmupThread.interrupt();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getWarmedCount() {
+        return warmedCount.get();
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    private void runWithRetry() {
+        for (int attempt = 1; !Thread.currentThread().isInterrupted(); attempt++) {
+            try {
+                long startedAt = System.currentTimeMillis();
+                long count = warmUp();
+                state = State.COMPLETED;
+                log.info("Redis 재고 warm-up 완료 | coupons: {} policy: {} attempts: {} elapsed: {}ms",
+                        count, policy, attempt, System.currentTimeMillis() - startedAt);
+                return;
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                state = State.RETRYING;
+                long backoffMs = backoffMillis(attempt, initialBackoffMs, maxBackoffMs);
+                log.warn("Redis 재고 warm-up 실패 (시도 {}), {}ms 후 재시도: {}", attempt, backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        log.info("Redis 재고 warm-up 중단 (종료): {}", lastError);
+    }
+
+    // initial × 2^(attempt-1), 최대 max
+    static long backoffMillis(int attempt, long initialMs, long maxMs) {
+        int shift = Math.min(attempt - 1, 30);
+        return Math.min(initialMs << shift, maxMs);
+    }
+
+    /**
+     * 반환값: 적재 대상 쿠폰 수
+     */
+    public long warmUp() {
+        warmedCount.set(0);
+        long lastId = 0;
+        while (true) {
+            List<CouponStockSnapshot> page =
+                    couponRepository.findActiveStockSnapshotsAfter(lastId, PageRequest.ofSize(pageSize));
+            if (page.isEmpty()) {
+                return warmedCount.get();
+            }
+            writePage(page);
+            warmedCount.addAndGet(page.size());
+            lastId = page.get(page.size() - 1).id();
+        }
+    }
+
+    private void writePage(List<CouponStockSnapshot> page) {
+        SetOption setOption = policy == Policy.IF_ABSENT ? SetOption.ifAbsent() : SetOption.upsert();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (CouponStockSnapshot snapshot : page) {
+                connection.stringCommands().set(
+                        (RedisStockService.STOCK_KEY_PREFIX + snapshot.code()).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(snapshot.remainStock()).getBytes(StandardCharsets.UTF_8),
+                        Expiration.persistent(),
+                        setOption);
+            }
+            return null;
+        });
+    }
+}
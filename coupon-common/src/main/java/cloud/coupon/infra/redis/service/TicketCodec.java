@@ -0,0 +1,69 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ticket ↔ Redis HASH 필드 변환.
+ * 필드명은 1글자, 상태는 코드로 저장하고 기본 메시지·subscribeUrl은 저장하지 않고 조회 시 복원한다.
+ * (JSON 대비 ticket당 저장 바이트와 직렬화 비용 절감)
+ *
+ * <pre>
+ * s: 상태 코드 (TicketStatus.code)
+ * c: 발급 코드 (COMPLETED)
+ * m: 메시지 — 상태 기본 메시지와 다를 때만
+ * n: 결과를 받을 SSE 노드 (RedisTicketService가 기록)
+ * u: ticket을 발급 요청한 userId (사용자 스트림 소유 확인용, 응답에는 싣지 않는다)
+ * </pre>
+ */
+public final class TicketCodec {
+
+    public static final String STATUS = "s";
+    public static final String ISSUED_CODE = "c";
+    public static final String MESSAGE = "m";
+    public static final String NODE = "n";
+    public static final String USER = "u";
+
+    private TicketCodec() {
+    }
+
+    public static Map<String, String> encode(TicketResponse ticket) {
+        Map<String, String> fields = new LinkedHashMap<>(4);
+        fields.put(STATUS, ticket.getStatus().getCode());
+        if (ticket.getIssuedCode() != null) {
+            fields.put(ISSUED_CODE, ticket.getIssuedCode());
+        }
+        if (ticket.getMessage() != null && !ticket.getMessage().equals(ticket.getStatus().getDefaultMessage())) {
+            fields.put(MESSAGE, ticket.getMessage());
+        }
+        return fields;
+    }
+
+    /**
+     * 반환값: 상태 코드가 없거나 알 수 없으면 null
+     */
+    public static TicketResponse decode(String ticketId, Map<String, String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        return decode(ticketId, fields.get(STATUS), fields.get(ISSUED_CODE), fields.get(MESSAGE));
+    }
+
+    public static TicketResponse decode(String ticketId, String statusCode, String issuedCode, String message) {
+        TicketStatus status = TicketStatus.fromCode(statusCode);
+        if (status == null) {
+            return null;
+        }
+        if (status == TicketStatus.PENDING && issuedCode == null && message == null) {
+            return TicketResponse.pending(ticketId);
+        }
+        return TicketResponse.builder()
+                .ticketId(ticketId)
+                .status(status)
+                .issuedCode(issuedCode)
+                .message(message != null ? message : status.getDefaultMessage())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package cloud.coupon.infra.redis.service;
+
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.scheduler.used-count-flush-enabled", havingValue = "true", matchIfMissing = true)
+public class UsedCountFlushScheduler {
+
+    private final CouponRepository couponRepository;
+    private final RedisUsedCountService redisUsedCountService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Redis에 누적된 쿠폰별 사용 수량 delta를 Coupon.usedCount에 반영합니다.
+     * 쿠폰당 주기마다 UPDATE 1회만 발생하므로 사용 처리량이 coupon row lock에 묶이지 않습니다.
+     * 커밋된 쿠폰만 Redis processing에서 차감하므로, 실패·중단된 delta는 다음 주기에 재시도됩니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.used-count-flush-delay-ms:1000}")
+    public void flushUsedCounts() {
+        String owner = UUID.randomUUID().toString();
+        try {
+            Map<String, Long> pending = redisUsedCountService.claimPendingUsedCounts(owner);
+            pending.forEach((code, delta) -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> couponRepository.increaseUsedCount(code, delta));
+                } catch (Exception e) {
+                    log.error("[{}] 사용 수량 반영 실패, 다음 주기에 재시도 | delta: {} | 원인: {}", code, delta, e.getMessage());
+                    return;
+                }
+                redisUsedCountService.acknowledgeUsedCount(code, delta);
+            });
+        } finally {
+            redisUsedCountService.releaseClaim(owner);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package cloud.coupon.infra.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.waiting-room.enabled", havingValue = "true")
+public class WaitingRoomWaveScheduler {
+
+    private final RedisWaitingRoomService redisWaitingRoomService;
+
+    /**
+     * 대기열이 있는 쿠폰마다 wave 1회. 모든 API 노드에서 돌지만 쿠폰별 주기 잠금으로 wave는 주기당 1번.
+     */
+    @Scheduled(fixedDelayString = "${coupon.waiting-room.wave-interval-ms:1000}")
+    public void admitWaves() {
+        for (String code : redisWaitingRoomService.getActiveCouponCodes()) {
+            try {
+                long admitted = redisWaitingRoomService.admitWave(code);
+                if (admitted > 0) {
+                    log.info("[{}] 대기열 입장 | admitted: {}", code, admitted);
+                }
+            } catch (Exception e) {
+                log.error("[{}] 대기열 wave 실패: {}", code, e.getMessage());
+            }
+        }
+    }
+}
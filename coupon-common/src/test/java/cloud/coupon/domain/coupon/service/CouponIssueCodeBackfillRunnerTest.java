@@ -0,0 +1,50 @@
+package cloud.coupon.domain.coupon.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class CouponIssueCodeBackfillRunnerTest {
+
+    private final CouponIssueRepository couponIssueRepository = mock(CouponIssueRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final CouponIssueCodeBackfillRunner runner =
+            new CouponIssueCodeBackfillRunner(couponIssueRepository, transactionTemplate);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(runner, "batchSize", 100);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void runsOneTransactionPerBatchUntilNothingIsLeft() {
+        when(couponIssueRepository.backfillCouponCode(100)).thenReturn(100, 100, 7, 0);
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(couponIssueRepository, times(4)).backfillCouponCode(100);
+        verify(transactionTemplate, times(4)).execute(any());
+    }
+
+    @Test
+    void finishesImmediatelyWhenAlreadyBackfilled() {
+        when(couponIssueRepository.backfillCouponCode(100)).thenReturn(0);
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(couponIssueRepository, times(1)).backfillCouponCode(100);
+    }
+}
@@ -0,0 +1,90 @@
+package cloud.coupon.domain.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.dto.request.CouponRedemptionRequest;
+import cloud.coupon.domain.coupon.entity.Coupon;
+import cloud.coupon.domain.coupon.entity.CouponIssue;
+import cloud.coupon.domain.coupon.entity.CouponType;
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.domain.history.repository.CouponUseHistoryRepository;
+import cloud.coupon.infra.redis.service.RedisUsedCountService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CouponRedemptionPersistenceServiceTest {
+
+    private static final String COUPON_CODE = "USE-001";
+
+    private final CouponIssueRepository couponIssueRepository = mock(CouponIssueRepository.class);
+    private final CouponUseHistoryRepository couponUseHistoryRepository = mock(CouponUseHistoryRepository.class);
+    private final RedisUsedCountService redisUsedCountService = mock(RedisUsedCountService.class);
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CouponRedemptionPersistenceService service = new CouponRedemptionPersistenceService(
+            couponIssueRepository, couponUseHistoryRepository, redisUsedCountService, couponRepository, transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = Coupon.builder()
+                .name("사용 테스트")
+                .code(COUPON_CODE)
+                .totalStock(10)
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .startTime(now.minusDays(1))
+                .endTime(now.plusDays(1))
+                .expireTime(now.plusDays(30))
+                .build();
+        CouponIssue issue = CouponIssue.builder().coupon(coupon).userId(1L).issuedCode("ISSUED-1").build();
+        when(couponIssueRepository.findAllByIssuedCodeIn(anyList())).thenReturn(List.of(issue));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private int persistAndCommit() {
+        int persisted = service.persistRedemptions(
+                List.of(new CouponRedemptionRequest("ISSUED-1", 1L, COUPON_CODE, LocalDateTime.now())));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        return persisted;
+    }
+
+    @Test
+    void countsUsageInRedisAfterCommit() {
+        assertThat(persistAndCommit()).isEqualTo(1);
+
+        verify(redisUsedCountService).increaseUsedCount(COUPON_CODE, 1L);
+        verify(couponRepository, never()).increaseUsedCount(anyString(), anyLong());
+    }
+
+    @Test
+    void fallsBackToDatabaseWhenRedisCounterFails() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisUsedCountService).increaseUsedCount(COUPON_CODE, 1L);
+
+        persistAndCommit();
+
+        verify(couponRepository).increaseUsedCount(COUPON_CODE, 1L);
+    }
+}
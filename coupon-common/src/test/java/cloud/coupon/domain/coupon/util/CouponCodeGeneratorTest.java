@@ -0,0 +1,25 @@
+package cloud.coupon.domain.coupon.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CouponCodeGeneratorTest {
+
+    private final CouponCodeGenerator generator = new CouponCodeGenerator();
+
+    @Test
+    void generatesEightUppercaseAlphanumericCharacters() {
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String code = generator.generateCode();
+            assertThat(code).matches("[0-9A-Z]{8}");
+            codes.add(code);
+        }
+
+        // 36^8 공간에서 10,000개 — 충돌 확률 ~2e-5
+        assertThat(codes).hasSizeGreaterThan(9_990);
+    }
+}
@@ -0,0 +1,39 @@
+package cloud.coupon.domain.coupon.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FeistelCodePermutationTest {
+
+    private final FeistelCodePermutation permutation = new FeistelCodePermutation(42L);
+
+    @Test
+    void generatesDistinctCodesForDistinctIndexes() {
+        Set<String> codes = new HashSet<>();
+        for (long index = 0; index < 200_000; index++) {
+            String code = permutation.codeAt(index);
+            assertThat(code).hasSize(FeistelCodePermutation.CODE_LENGTH).matches("[0-9A-Z]{8}");
+            codes.add(code);
+        }
+
+        assertThat(codes).hasSize(200_000);
+    }
+
+    @Test
+    void isDeterministicForSameSecret() {
+        FeistelCodePermutation other = new FeistelCodePermutation(42L);
+
+        assertThat(other.codeAt(12345L)).isEqualTo(permutation.codeAt(12345L));
+        assertThat(new FeistelCodePermutation(43L).codeAt(12345L)).isNotEqualTo(permutation.codeAt(12345L));
+    }
+
+    @Test
+    void rejectsIndexOutsideCodeSpace() {
+        assertThatThrownBy(() -> permutation.permute(FeistelCodePermutation.DOMAIN_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package cloud.coupon.domain.coupon.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.config.CodePoolProperties;
+import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
+import cloud.coupon.infra.redis.service.RedisCodePoolService;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class PooledCodeGeneratorTest {
+
+    private final RedisCodePoolService codePoolService = mock(RedisCodePoolService.class);
+    private final CouponIssueRepository couponIssueRepository = mock(CouponIssueRepository.class);
+    private final PooledCodeGenerator generator =
+            new PooledCodeGenerator(codePoolService, new CodePoolProperties(), couponIssueRepository);
+
+    @Test
+    void skipsAlreadyIssuedCodesWhenAllocatingDirectly() {
+        when(codePoolService.popCodes(anyString(), anyInt())).thenReturn(List.of());
+        when(codePoolService.allocateCodes(anyInt())).thenReturn(List.of("AAAA0001", "AAAA0002"));
+        when(couponIssueRepository.findIssuedCodesIn(anyList())).thenReturn(List.of("AAAA0001"));
+
+        assertThat(generator.generateCode("COUPON")).isEqualTo("AAAA0002");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void prepareFiltersPoolCodesAgainstIssuedCodes() {
+        when(couponIssueRepository.findIssuedCodesIn(anyList())).thenReturn(List.of("AAAA0002"));
+
+        generator.prepare("COUPON", 100);
+
+        ArgumentCaptor<UnaryOperator<List<String>>> filter = ArgumentCaptor.forClass(UnaryOperator.class);
+        Mockito.verify(codePoolService).fillPool(eq("COUPON"), anyLong(), filter.capture());
+        assertThat(filter.getValue().apply(List.of("AAAA0001", "AAAA0002", "AAAA0003")))
+                .containsExactly("AAAA0001", "AAAA0003");
+    }
+}
@@ -0,0 +1,96 @@
+package cloud.coupon.domain.coupon.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TicketIdGeneratorTest {
+
+    private static final long NOW = TicketIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void formatsAsFixedLengthCrockfordBase32() {
+        String ticketId = new TicketIdGenerator(7).nextTicketId();
+
+        assertThat(ticketId).matches("tkt_[0-9A-HJKMNP-TV-Z]{26}");
+    }
+
+    @Test
+    void idsSortByIssueOrderEvenWhenSequenceOverflowsOrClockGoesBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TicketIdGenerator generator = new TicketIdGenerator(1, clock::get);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) { // 같은 ms에 4096개 초과
+            ids.add(generator.nextTicketId());
+        }
+        clock.set(NOW - 5_000); // 시계 역행
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.nextTicketId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void embedsIssueTimeAndWorker() {
+        TicketIdGenerator generator = new TicketIdGenerator(5, () -> NOW);
+
+        long id = generator.nextId();
+
+        assertThat(TicketIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(new TicketIdGenerator(6, () -> NOW).nextId()).isNotEqualTo(id);
+    }
+
+    @Test
+    void appendsRandomBitsSoIdsCannotBeEnumerated() {
+        // 같은 worker·같은 ms·같은 순번이어도 뒤 난수 부분이 다르다
+        String first = new TicketIdGenerator(5, () -> NOW).nextTicketId();
+        String second = new TicketIdGenerator(5, () -> NOW).nextTicketId();
+
+        assertThat(first.substring(0, 17)).isEqualTo(second.substring(0, 17));
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void stopsIssuingWhenWorkerIdSourceRejects() {
+        TicketIdGenerator generator = new TicketIdGenerator(() -> {
+            throw new IllegalStateException("lease 만료");
+        });
+
+        assertThatThrownBy(generator::nextTicketId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void isUniqueUnderConcurrency() throws InterruptedException {
+        TicketIdGenerator generator = new TicketIdGenerator(3);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(160_000);
+    }
+
+    @Test
+    void rejectsWorkerIdOutOfRange() {
+        assertThatThrownBy(() -> new TicketIdGenerator(TicketIdGenerator.MAX_WORKER_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
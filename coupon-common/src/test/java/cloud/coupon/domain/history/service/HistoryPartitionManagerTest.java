@@ -0,0 +1,83 @@
+package cloud.coupon.domain.history.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.history.config.HistoryRetentionProperties;
+import cloud.coupon.domain.history.service.HistoryPartitionManager.HistoryPartition;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class HistoryPartitionManagerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final HistoryRetentionProperties properties = new HistoryRetentionProperties();
+    private HistoryPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = spy(new HistoryPartitionManager(jdbcTemplate, properties));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+    }
+
+    @Test
+    void inactiveByDefaultWithoutTouchingDatabase() {
+        assertThat(partitionManager.isActive()).isFalse();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void neverConvertsUnpartitionedTable() {
+        properties.setPartitionEnabled(true);
+        doReturn(List.of()).when(partitionManager).findPartitions();
+
+        assertThat(partitionManager.isActive()).isFalse();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void activeOnceMigrationHasPartitionedTable() {
+        properties.setPartitionEnabled(true);
+        doReturn(List.of(new HistoryPartition("p_legacy", "63426672000"), new HistoryPartition("p_future", "MAXVALUE")))
+                .when(partitionManager).findPartitions();
+
+        assertThat(partitionManager.isActive()).isTrue();
+    }
+
+    @Test
+    void dropsOnlyPartitionsWhoseUpperBoundIsBeforeCutoff() {
+        doReturn(List.of(
+                new HistoryPartition("p20250101", String.valueOf(HistoryPartitionManager.toSeconds(LocalDateTime.of(2025, 1, 2, 0, 0)))),
+                new HistoryPartition("p20250102", String.valueOf(HistoryPartitionManager.toSeconds(LocalDateTime.of(2025, 1, 3, 0, 0)))),
+                new HistoryPartition("p_future", "MAXVALUE")
+        )).when(partitionManager).findPartitions();
+
+        int dropped = partitionManager.dropPartitionsBefore(LocalDateTime.of(2025, 1, 2, 12, 0));
+
+        assertThat(dropped).isEqualTo(1);
+        verify(jdbcTemplate).execute("ALTER TABLE coupon_issue_history DROP PARTITION p20250101");
+    }
+
+    @Test
+    void toSecondsMatchesMySqlToSeconds() {
+        // MySQL: SELECT TO_SECONDS('2009-11-29') = 63426672000
+        LocalDateTime time = LocalDateTime.of(2009, 11, 29, 0, 0);
+
+        assertThat(HistoryPartitionManager.toSeconds(time)).isEqualTo(63426672000L);
+        assertThat(HistoryPartitionManager.fromToSeconds(63426672000L)).isEqualTo(time);
+    }
+}
@@ -0,0 +1,44 @@
+package cloud.coupon.domain.history.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.history.config.HistoryRetentionProperties;
+import cloud.coupon.domain.history.repository.CouponIssueHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class HistoryRetentionSchedulerTest {
+
+    private final HistoryPartitionManager partitionManager = mock(HistoryPartitionManager.class);
+    private final CouponIssueHistoryRepository repository = mock(CouponIssueHistoryRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final HistoryRetentionScheduler scheduler = new HistoryRetentionScheduler(
+            new HistoryRetentionProperties(), partitionManager, repository, transactionTemplate);
+
+    @Test
+    void fallsBackToChunkDeleteWhenPartitionsAreNotActive() {
+        when(partitionManager.isActive()).thenReturn(false);
+        when(transactionTemplate.execute(any())).thenReturn(0);
+
+        scheduler.purgeExpiredHistory();
+
+        verify(transactionTemplate).execute(any());
+        verify(partitionManager, never()).createUpcomingPartitions();
+        verify(partitionManager, never()).dropPartitionsBefore(any());
+    }
+
+    @Test
+    void managesPartitionsWithoutChunkDeleteWhenActive() {
+        when(partitionManager.isActive()).thenReturn(true);
+
+        scheduler.purgeExpiredHistory();
+
+        verify(partitionManager).createUpcomingPartitions();
+        verify(partitionManager).dropPartitionsBefore(any());
+        verify(transactionTemplate, never()).execute(any());
+    }
+}
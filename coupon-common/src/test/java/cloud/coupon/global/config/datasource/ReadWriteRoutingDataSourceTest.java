@@ -0,0 +1,44 @@
+package cloud.coupon.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.global.config.datasource.ReadWriteRoutingDataSource.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void routesReadOnlyTransactionToReplica() {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Role.REPLICA);
+    }
+
+    @Test
+    void routesReadOnlyTransactionToPrimaryWhenReplicaLags() {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Role.PRIMARY);
+    }
+
+    @Test
+    void routesWriteTransactionToPrimary() {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Role.PRIMARY);
+    }
+}
@@ -0,0 +1,46 @@
+package cloud.coupon.infra.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RedisKeyCleanerTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final Cursor<String> cursor = mock(Cursor.class);
+    private final RedisKeyCleaner cleaner = new RedisKeyCleaner(redisTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cleaner, "scanCount", 100L);
+        ReflectionTestUtils.setField(cleaner, "unlinkBatchSize", 2);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    @Test
+    void scansAndUnlinksInBatches() {
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn("coupon:stock:A", "coupon:stock:B", "coupon:stock:C");
+        when(redisTemplate.unlink(List.of("coupon:stock:A", "coupon:stock:B"))).thenReturn(2L);
+        when(redisTemplate.unlink(List.of("coupon:stock:C"))).thenReturn(1L);
+
+        long unlinked = cleaner.cleanupNow("coupon:stock:*");
+
+        assertThat(unlinked).isEqualTo(3);
+        verify(redisTemplate, never()).keys(any());
+        verify(cursor).close();
+    }
+}
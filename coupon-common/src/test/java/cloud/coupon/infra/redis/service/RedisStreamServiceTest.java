@@ -1,8 +1,18 @@
 package cloud.coupon.infra.redis.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 
 class RedisStreamServiceTest {
 
@@ -25,4 +35,34 @@ class RedisStreamServiceTest {
 
         assertThat(RedisStreamService.isBusyGroupError(exception)).isFalse();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void autoClaimReturnsNextStartIdAndClaimedCount() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("1700000000000-5", "3"));
+        RedisStreamService service = new RedisStreamService(redisTemplate);
+
+        RedisStreamService.AutoClaimResult result = service.autoClaim(
+                "coupon:use:stream", "group", "consumer", Duration.ofSeconds(60), "0-0", 100);
+
+        assertThat(result.nextId()).isEqualTo("1700000000000-5");
+        assertThat(result.claimedCount()).isEqualTo(3);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("coupon:use:stream")),
+                eq("group"), eq("consumer"), eq("60000"), eq("0-0"), eq("100"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void autoClaimWithoutReplyEndsScan() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        RedisStreamService service = new RedisStreamService(redisTemplate);
+
+        RedisStreamService.AutoClaimResult result = service.autoClaim(
+                "coupon:use:stream", "group", "consumer", Duration.ofSeconds(60), "0-0", 100);
+
+        assertThat(result.nextId()).isEqualTo("0-0");
+        assertThat(result.claimedCount()).isZero();
+    }
 }
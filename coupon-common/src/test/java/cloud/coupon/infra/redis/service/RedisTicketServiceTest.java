@@ -0,0 +1,148 @@
+package cloud.coupon.infra.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RedisTicketServiceTest {
+
+    private static final String TICKET_ID = "tkt_0123456789ab";
+    private static final List<String> TICKET_KEY_ONLY = List.of("coupon:ticket:h:" + TICKET_ID);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final RedisTicketService redisTicketService =
+            new RedisTicketService(redisTemplate, mock(ReactiveStringRedisTemplate.class), new ObjectMapper());
+
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishesInScriptWhenTicketHasSubscriberNode() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(TICKET_KEY_ONLY), any(Object[].class))).thenReturn(1L);
+
+        long receivers = redisTicketService.saveAndPublishResult(TicketResponse.completed(TICKET_ID, "AB12CD34"), "7");
+
+        assertThat(receivers).isEqualTo(1);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fallsBackToUserStreamNodeOutsideTheScript() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(TICKET_KEY_ONLY), any(Object[].class))).thenReturn(-2L);
+        when(valueOperations.get("coupon:user:node:7")).thenReturn("node-a");
+        when(redisTemplate.convertAndSend(eq("coupon:result:node:node-a"), anyString())).thenReturn(1L);
+
+        long receivers = redisTicketService.saveAndPublishResult(TicketResponse.completed(TICKET_ID, "AB12CD34"), "7");
+
+        assertThat(receivers).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void returnsMinusOneWhenNoNodeIsSubscribed() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(TICKET_KEY_ONLY), any(Object[].class))).thenReturn(-2L);
+
+        long receivers = redisTicketService.saveAndPublishResult(TicketResponse.failed(TICKET_ID, "재고 소진"), "7");
+
+        assertThat(receivers).isEqualTo(-1);
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shardedModeResolvesUserNodeOutsideTheSaveScript() {
+        ReflectionTestUtils.setField(redisTicketService, "shardedPubSub", true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(TICKET_KEY_ONLY), any(Object[].class))).thenReturn(null);
+        when(valueOperations.get("coupon:user:node:7")).thenReturn("node-a");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("coupon:result:{node-a}")), any(Object[].class)))
+                .thenReturn(1L);
+
+        long receivers = redisTicketService.saveAndPublishResult(TicketResponse.completed(TICKET_ID, "AB12CD34"), "7");
+
+        assertThat(receivers).isEqualTo(1);
+    }
+
+    @Test
+    void parsesResultPayload() {
+        RedisTicketService.ResultMessage message =
+                redisTicketService.parseResultMessage(TICKET_ID + "|7|C|AB12CD34|");
+
+        assertThat(message.ticketId()).isEqualTo(TICKET_ID);
+        assertThat(message.userId()).isEqualTo("7");
+        assertThat(message.ticket().getStatus()).isEqualTo(TicketStatus.COMPLETED);
+        assertThat(message.ticket().getIssuedCode()).isEqualTo("AB12CD34");
+    }
+
+    @Test
+    void malformedResultPayloadIsIgnored() {
+        RedisTicketService.ResultMessage message = redisTicketService.parseResultMessage("COMPLETED");
+
+        assertThat(message.ticketId()).isNull();
+    }
+
+    @Test
+    void readsLegacyJsonTicketWhenHashIsMissing() {
+        when(hashOperations.entries("coupon:ticket:h:" + TICKET_ID)).thenReturn(Map.of());
+        when(valueOperations.get("coupon:ticket:" + TICKET_ID))
+                .thenReturn("{\"ticketId\":\"" + TICKET_ID + "\",\"status\":\"COMPLETED\",\"issuedCode\":\"AB12CD34\"}");
+
+        TicketResponse ticket = redisTicketService.getTicket(TICKET_ID).orElseThrow();
+
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.COMPLETED);
+        assertThat(ticket.getIssuedCode()).isEqualTo("AB12CD34");
+    }
+
+    @Test
+    void acquireWorkerIdSkipsLeasedIds() {
+        when(valueOperations.increment("coupon:ticket-worker:seq")).thenReturn(4L);
+        when(valueOperations.setIfAbsent(eq("coupon:ticket-worker:lease:3"), eq("node-a"), any(Duration.class)))
+                .thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("coupon:ticket-worker:lease:0"), eq("node-a"), any(Duration.class)))
+                .thenReturn(true);
+
+        OptionalInt workerId = redisTicketService.acquireWorkerId(4, "node-a", Duration.ofSeconds(30));
+
+        // 시작점 3이 사용 중이면 다음 id(순환)로
+        assertThat(workerId).hasValue(0);
+    }
+
+    @Test
+    void acquireWorkerIdFailsWhenEveryIdIsLeased() {
+        when(valueOperations.increment("coupon:ticket-worker:seq")).thenReturn(1L);
+        when(valueOperations.setIfAbsent(anyString(), eq("node-a"), any(Duration.class))).thenReturn(false);
+
+        assertThat(redisTicketService.acquireWorkerId(4, "node-a", Duration.ofSeconds(30))).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package cloud.coupon.infra.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import cloud.coupon.infra.redis.service.RedisStockService.ReconcileResult;
+import cloud.coupon.infra.redis.service.RedisStockService.ReconcileStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class StockReconcilerTest {
+
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final RedisStockService redisStockService = mock(RedisStockService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StockReconciler stockReconciler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stockReconciler = new StockReconciler(couponRepository, redisStockService, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(stockReconciler, "batchSize", 100);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(couponRepository.findActiveStockSnapshots(List.of("C1")))
+                .thenReturn(List.of(new CouponStockSnapshot(1L, "C1", 10)));
+    }
+
+    @Test
+    void correctsOnlyAfterSameDriftIsObservedTwice() {
+        when(redisStockService.popDirtyCoupons(100)).thenReturn(List.of("C1"));
+        when(redisStockService.reconcileStock("C1", 10, null))
+                .thenReturn(new ReconcileResult(2, ReconcileStatus.OBSERVED));
+        when(redisStockService.reconcileStock("C1", 10, 2L))
+                .thenReturn(new ReconcileResult(2, ReconcileStatus.CORRECTED));
+
+        stockReconciler.reconcileDirtyCoupons();
+        verify(redisStockService).markDirty(List.of("C1"));
+
+        stockReconciler.reconcileDirtyCoupons();
+        verify(redisStockService).reconcileStock("C1", 10, 2L);
+        assertThat(meterRegistry.counter("coupon.stock.drift.corrected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void skipsWhenNothingIsDirty() {
+        when(redisStockService.popDirtyCoupons(100)).thenReturn(List.of());
+
+        assertThat(stockReconciler.reconcileDirtyCoupons()).isZero();
+        verify(redisStockService, never()).reconcileStock(any(), anyInt(), isNull());
+    }
+}
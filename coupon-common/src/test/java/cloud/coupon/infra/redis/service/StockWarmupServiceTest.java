@@ -0,0 +1,99 @@
+package cloud.coupon.infra.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.dto.response.CouponStockSnapshot;
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StockWarmupServiceTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final StockWarmupService service = new StockWarmupService(couponRepository, redisTemplate);
+
+    @Test
+    void skipsStartupStockSyncWhenDisabled() {
+        ReflectionTestUtils.setField(service, "syncStockOnStartup", false);
+
+        service.start();
+
+        verify(couponRepository, never()).findActiveStockSnapshotsAfter(anyLong(), any());
+        assertThat(service.getState()).isEqualTo(StockWarmupService.State.DISABLED);
+    }
+
+    @Test
+    void writesPagesByKeysetUntilEmpty() {
+        ReflectionTestUtils.setField(service, "policy", StockWarmupService.Policy.IF_ABSENT);
+        ReflectionTestUtils.setField(service, "pageSize", 2);
+        when(couponRepository.findActiveStockSnapshotsAfter(eq(0L), any()))
+                .thenReturn(List.of(new CouponStockSnapshot(1L, "A", 10), new CouponStockSnapshot(5L, "B", 3)));
+        when(couponRepository.findActiveStockSnapshotsAfter(eq(5L), any()))
+                .thenReturn(List.of(new CouponStockSnapshot(9L, "C", 0)));
+        when(couponRepository.findActiveStockSnapshotsAfter(eq(9L), any()))
+                .thenReturn(List.of());
+
+        long count = service.warmUp();
+
+        assertThat(count).isEqualTo(3);
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void keepsRetryingUntilWarmUpSucceeds() throws InterruptedException {
+        ReflectionTestUtils.setField(service, "syncStockOnStartup", true);
+        ReflectionTestUtils.setField(service, "policy", StockWarmupService.Policy.IF_ABSENT);
+        ReflectionTestUtils.setField(service, "pageSize", 100);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 1L);
+        ReflectionTestUtils.setField(service, "maxBackoffMs", 5L);
+        when(couponRepository.findActiveStockSnapshotsAfter(eq(0L), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        service.start();
+        for (int i = 0; i < 200 && service.getState() != StockWarmupService.State.COMPLETED; i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(service.getState()).isEqualTo(StockWarmupService.State.COMPLETED);
+        verify(couponRepository, times(7)).findActiveStockSnapshotsAfter(eq(0L), any());
+    }
+
+    @Test
+    void rejectsNonPositivePageSizeAtStartup() {
+        ReflectionTestUtils.setField(service, "syncStockOnStartup", true);
+        ReflectionTestUtils.setField(service, "pageSize", 0);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(service, "maxBackoffMs", 30000L);
+
+        assertThatThrownBy(service::start).isInstanceOf(IllegalStateException.class);
+        verify(couponRepository, never()).findActiveStockSnapshotsAfter(anyLong(), any());
+    }
+
+    @Test
+    void backoffDoublesUpToMax() {
+        assertThat(StockWarmupService.backoffMillis(1, 1000, 30000)).isEqualTo(1000);
+        assertThat(StockWarmupService.backoffMillis(3, 1000, 30000)).isEqualTo(4000);
+        assertThat(StockWarmupService.backoffMillis(10, 1000, 30000)).isEqualTo(30000);
+        assertThat(StockWarmupService.backoffMillis(100, 1000, 30000)).isEqualTo(30000);
+    }
+}
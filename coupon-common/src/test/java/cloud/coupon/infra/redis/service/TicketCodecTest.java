@@ -0,0 +1,65 @@
+package cloud.coupon.infra.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloud.coupon.domain.coupon.dto.response.TicketResponse;
+import cloud.coupon.domain.coupon.dto.response.TicketStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TicketCodecTest {
+
+    private static final String TICKET_ID = "tkt_0123456789ab";
+
+    @Test
+    void pendingTicketStoresOnlyStatusAndRestoresSubscribeUrl() {
+        Map<String, String> fields = TicketCodec.encode(TicketResponse.pending(TICKET_ID));
+
+        assertThat(fields).containsExactly(Map.entry(TicketCodec.STATUS, "P"));
+        TicketResponse decoded = TicketCodec.decode(TICKET_ID, fields);
+        assertThat(decoded.getStatus()).isEqualTo(TicketStatus.PENDING);
+        assertThat(decoded.getSubscribeUrl()).isEqualTo(TicketResponse.pending(TICKET_ID).getSubscribeUrl());
+    }
+
+    @Test
+    void completedTicketDropsDefaultMessage() {
+        TicketResponse completed = TicketResponse.completed(TICKET_ID, "AB12CD34");
+
+        Map<String, String> fields = TicketCodec.encode(completed);
+
+        assertThat(fields).doesNotContainKey(TicketCodec.MESSAGE);
+        TicketResponse decoded = TicketCodec.decode(TICKET_ID, fields);
+        assertThat(decoded.getIssuedCode()).isEqualTo("AB12CD34");
+        assertThat(decoded.getMessage()).isEqualTo(completed.getMessage());
+        assertThat(decoded.getSubscribeUrl()).isNull();
+    }
+
+    @Test
+    void failedTicketKeepsCustomMessage() {
+        TicketResponse decoded = TicketCodec.decode(TICKET_ID,
+                TicketCodec.encode(TicketResponse.failed(TICKET_ID, "최대 재시도 초과")));
+
+        assertThat(decoded.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(decoded.getMessage()).isEqualTo("최대 재시도 초과");
+    }
+
+    @Test
+    void unknownOrMissingStatusDecodesToNull() {
+        assertThat(TicketCodec.decode(TICKET_ID, Map.of())).isNull();
+        assertThat(TicketCodec.decode(TICKET_ID, Map.of(TicketCodec.STATUS, "?"))).isNull();
+    }
+
+    @Test
+    void encodedFieldsAreFarSmallerThanJson() throws Exception {
+        TicketResponse completed = TicketResponse.completed(TICKET_ID, "AB12CD34");
+        int jsonBytes = new ObjectMapper().writeValueAsString(completed).getBytes(StandardCharsets.UTF_8).length;
+
+        int hashBytes = TicketCodec.encode(completed).entrySet().stream()
+                .mapToInt(e -> e.getKey().length() + e.getValue().getBytes(StandardCharsets.UTF_8).length)
+                .sum();
+
+        assertThat(hashBytes * 4).isLessThan(jsonBytes);
+    }
+}
@@ -0,0 +1,61 @@
+package cloud.coupon.infra.redis.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cloud.coupon.domain.coupon.repository.CouponRepository;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class UsedCountFlushSchedulerTest {
+
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final RedisUsedCountService redisUsedCountService = mock(RedisUsedCountService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final UsedCountFlushScheduler scheduler =
+            new UsedCountFlushScheduler(couponRepository, redisUsedCountService, transactionTemplate);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void acknowledgesOnlyCommittedDeltas() {
+        when(redisUsedCountService.claimPendingUsedCounts(anyString())).thenReturn(Map.of("OK", 3L, "FAIL", 2L));
+        when(couponRepository.increaseUsedCount("FAIL", 2L)).thenThrow(new QueryTimeoutException("timeout"));
+
+        scheduler.flushUsedCounts();
+
+        verify(redisUsedCountService).acknowledgeUsedCount("OK", 3L);
+        // 실패한 delta는 processing에 남아 다음 주기에 재시도된다
+        verify(redisUsedCountService, never()).acknowledgeUsedCount(eq("FAIL"), anyLong());
+        verify(redisUsedCountService).releaseClaim(anyString());
+    }
+
+    @Test
+    void releasesClaimEvenWhenNothingIsPending() {
+        when(redisUsedCountService.claimPendingUsedCounts(anyString())).thenReturn(Map.of());
+
+        scheduler.flushUsedCounts();
+
+        verify(couponRepository, never()).increaseUsedCount(anyString(), anyLong());
+        verify(redisUsedCountService).releaseClaim(anyString());
+    }
+}
@@ -3,7 +3,6 @@ package cloud.coupon.consumer;
 import cloud.coupon.domain.coupon.dto.request.CouponIssueRequest;
 import cloud.coupon.domain.coupon.dto.response.CouponIssueResult;
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
-import cloud.coupon.domain.coupon.dto.response.TicketStatus;
 import cloud.coupon.domain.coupon.service.CouponIssuancePersistenceService;
 import cloud.coupon.infra.redis.service.RedisStockService;
 import cloud.coupon.infra.redis.service.RedisTicketService;
@@ -38,8 +37,7 @@ public class CouponIssuanceProcessor {
 
             redisStockService.transitionToIssued(code, userId);
             TicketResponse response = TicketResponse.completed(ticketId, result.getCouponCode());
-            redisTicketService.saveTicket(ticketId, response);
-            redisTicketService.publishResult(ticketId, TicketStatus.COMPLETED);
+            redisTicketService.saveAndPublishResult(response, userId);
 
             log.info("[{}]: 발급 완료 | userId: {} | ticketId: {} | issuedCode: {}",
                     code, userId, ticketId, result.getCouponCode());
@@ -50,8 +48,7 @@ public class CouponIssuanceProcessor {
             redisStockService.transitionToIssued(code, userId);
 
             TicketResponse response = TicketResponse.completed(ticketId, code);
-            redisTicketService.saveTicket(ticketId, response);
-            redisTicketService.publishResult(ticketId, TicketStatus.COMPLETED);
+            redisTicketService.saveAndPublishResult(response, userId);
 
             log.info("[{}]: ACK-loss 재처리 완료 | userId: {} | ticketId: {}",
                     code, userId, ticketId);
@@ -7,13 +7,17 @@ import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.stereotype.Component;
 
@@ -27,22 +31,35 @@ public class CouponIssueConsumer {
     private final CouponIssuanceProcessor processor;
     private final DlqProcessor dlqProcessor;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     private final AtomicBoolean running = new AtomicBoolean(false);
     private ExecutorService executorService;
+    private ExecutorService workerExecutor;
     private final ConcurrentHashMap<String, Integer> retryCountMap = new ConcurrentHashMap<>();
 
     @PostConstruct
     public void start() {
         redisStreamService.createGroupIfNotExists(properties.getStreamKey(), properties.getGroupName());
         running.set(true);
-        executorService = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "coupon-issue-consumer");
-            t.setDaemon(true);
-            return t;
-        });
+        executorService = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("coupon-issue-consumer").factory()
+                : r -> {
+                    Thread t = new Thread(r, "coupon-issue-consumer");
+                    t.setDaemon(true);
+                    return t;
+                });
+        if (properties.getWorkerConcurrency() > 1) {
+            // 레코드 처리는 대부분 JDBC 대기 — virtual thread면 스레드 풀 크기 대신 동시 처리 수로만 제한
+            workerExecutor = virtualThreads
+                    ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("coupon-issue-worker-", 0).factory())
+                    : Executors.newFixedThreadPool(properties.getWorkerConcurrency());
+        }
         executorService.submit(this::consumeLoop);
-        log.info("CouponIssueConsumer 시작: stream={}, group={}, consumer={}",
-                properties.getStreamKey(), properties.getGroupName(), properties.getConsumerName());
+        log.info("CouponIssueConsumer 시작: stream={}, group={}, consumer={}, workers={}, virtualThreads={}",
+                properties.getStreamKey(), properties.getGroupName(), properties.getConsumerName(),
+                properties.getWorkerConcurrency(), virtualThreads);
     }
 
     @PreDestroy
@@ -59,6 +76,9 @@ public class CouponIssueConsumer {
                 Thread.currentThread().interrupt();
             }
         }
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+        }
         log.info("CouponIssueConsumer 종료");
     }
 
@@ -77,9 +97,7 @@ public class CouponIssueConsumer {
                     continue;
                 }
 
-                for (MapRecord<String, String, String> record : records) {
-                    processRecord(record);
-                }
+                processRecords(records);
             } catch (Exception e) {
                 log.error("Consumer 루프 에러: {}", e.getMessage(), e);
                 try {
@@ -92,6 +110,33 @@ public class CouponIssueConsumer {
         }
     }
 
+    private void processRecords(List<MapRecord<String, String, String>> records) throws InterruptedException {
+        if (workerExecutor == null) {
+            for (MapRecord<String, String, String> record : records) {
+                processRecord(record);
+            }
+            return;
+        }
+        // 동시 처리 수는 workerConcurrency 이하 (batch 단위로 끊어서 제출, 전부 끝난 뒤 다음 read)
+        int concurrency = properties.getWorkerConcurrency();
+        for (int from = 0; from < records.size(); from += concurrency) {
+            List<Callable<Void>> tasks = records.subList(from, Math.min(from + concurrency, records.size())).stream()
+                    .map(record -> (Callable<Void>) () -> {
+                        processRecord(record);
+                        return null;
+                    })
+                    .toList();
+            for (Future<Void> future : workerExecutor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // 미ACK 레코드는 PEL에 남아 PendingMessageRecovery가 재처리
+                    log.error("레코드 처리 실패: {}", e.getCause().getMessage(), e.getCause());
+                }
+            }
+        }
+    }
+
     private void processRecord(MapRecord<String, String, String> record) {
         String messageId = record.getId().getValue();
         Map<String, String> fields = record.getValue();
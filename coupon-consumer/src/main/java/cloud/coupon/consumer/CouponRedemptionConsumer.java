@@ -0,0 +1,232 @@
+package cloud.coupon.consumer;
+
+import cloud.coupon.consumer.config.RedemptionConsumerProperties;
+import cloud.coupon.domain.coupon.config.RedemptionProperties;
+import cloud.coupon.domain.coupon.dto.request.CouponRedemptionRequest;
+import cloud.coupon.domain.coupon.service.CouponRedemptionPersistenceService;
+import cloud.coupon.infra.redis.service.RedisStreamService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis redemption 이벤트(coupon:use:stream)를 batch 단위로 DB에 반영하는 consumer.
+ * batch 반영이 실패하면 건별로 재시도해 실패 메시지만 PEL에 남기고,
+ * 다음 루프에서 자신의 PEL을 끝까지 다시 읽어 재처리한다. 최대 재시도 초과 시 DLQ로 이동.
+ * 종료된 consumer의 PEL에 남은 메시지는 claimIdleTime이 지나면 XAUTOCLAIM으로 가져와 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.redemption.redis-enabled", havingValue = "true")
+public class CouponRedemptionConsumer {
+
+    private static final String PEL_START_ID = "0-0";
+
+    private final RedemptionConsumerProperties properties;
+    private final RedemptionProperties redemptionProperties;
+    private final RedisStreamService redisStreamService;
+    private final CouponRedemptionPersistenceService persistenceService;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ConcurrentHashMap<String, Integer> retryCountMap = new ConcurrentHashMap<>();
+    private ExecutorService executorService;
+    // null이면 새 메시지를 읽고, 값이 있으면 PEL을 이 ID 뒤부터 재처리 중 (시작 시 PEL부터)
+    private String pendingCursor = PEL_START_ID;
+    private boolean rescanPending = false;
+    private long lastClaimAt = 0;
+
+    @PostConstruct
+    public void start() {
+        redisStreamService.createGroupIfNotExists(redemptionProperties.getStreamKey(), properties.getGroupName());
+        running.set(true);
+        executorService = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("coupon-redemption-consumer").factory()
+                : r -> {
+                    Thread t = new Thread(r, "coupon-redemption-consumer");
+                    t.setDaemon(true);
+                    return t;
+                });
+        executorService.submit(this::consumeLoop);
+        log.info("CouponRedemptionConsumer 시작: stream={}, group={}, consumer={}",
+                redemptionProperties.getStreamKey(), properties.getGroupName(), properties.getConsumerName());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(properties.getBlockTimeout() + 500, TimeUnit.MILLISECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("CouponRedemptionConsumer 종료");
+    }
+
+    private void consumeLoop() {
+        while (running.get()) {
+            try {
+                if (pendingCursor != null) {
+                    recoverPendingBatch();
+                    continue;
+                }
+
+                List<MapRecord<String, String, String>> records = redisStreamService.readGroup(
+                        redemptionProperties.getStreamKey(),
+                        properties.getGroupName(),
+                        properties.getConsumerName(),
+                        properties.getBatchSize(),
+                        Duration.ofMillis(properties.getBlockTimeout()));
+                if (records != null && !records.isEmpty() && !processBatch(records)) {
+                    rescanPending = true;
+                }
+                // 실패로 남은 메시지나 다른 consumer에게서 가져온 메시지가 있으면 PEL을 처음부터 다시 훑는다
+                if (claimIdleMessagesIfDue() || rescanPending) {
+                    rescanPending = false;
+                    pendingCursor = PEL_START_ID;
+                }
+            } catch (Exception e) {
+                log.error("Redemption consumer 루프 에러: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    // PEL을 pendingCursor 뒤에서 batch 크기만큼 재처리. PEL 끝에 도달하면 새 메시지 읽기로 돌아간다
+    private void recoverPendingBatch() {
+        List<MapRecord<String, String, String>> records = redisStreamService.readOwnPending(
+                redemptionProperties.getStreamKey(),
+                properties.getGroupName(),
+                properties.getConsumerName(),
+                properties.getBatchSize(),
+                pendingCursor);
+        if (records == null || records.isEmpty()) {
+            pendingCursor = null;
+            return;
+        }
+        pendingCursor = records.get(records.size() - 1).getId().getValue();
+        if (!processBatch(records)) {
+            rescanPending = true;
+        }
+    }
+
+    // 반환값: 다른 consumer(종료된 노드 포함)의 idle 메시지를 가져왔는지 여부
+    private boolean claimIdleMessagesIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastClaimAt < properties.getClaimInterval()) {
+            return false;
+        }
+        lastClaimAt = now;
+
+        long claimed = 0;
+        String startId = PEL_START_ID;
+        do {
+            RedisStreamService.AutoClaimResult result = redisStreamService.autoClaim(
+                    redemptionProperties.getStreamKey(),
+                    properties.getGroupName(),
+                    properties.getConsumerName(),
+                    Duration.ofMillis(properties.getClaimIdleTime()),
+                    startId,
+                    properties.getBatchSize());
+            claimed += result.claimedCount();
+            startId = result.nextId();
+        } while (!PEL_START_ID.equals(startId) && running.get());
+
+        if (claimed > 0) {
+            log.info("idle redemption 메시지 {}건 claim", claimed);
+        }
+        return claimed > 0;
+    }
+
+    // 반환값: batch 전체 ACK 여부 (false면 PEL 재처리 필요)
+    private boolean processBatch(List<MapRecord<String, String, String>> records) {
+        try {
+            int applied = persistenceService.persistRedemptions(records.stream().map(this::toRequest).toList());
+            acknowledge(records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+            records.forEach(record -> retryCountMap.remove(record.getId().getValue()));
+            log.debug("redemption batch 반영 | size: {} applied: {}", records.size(), applied);
+            return true;
+        } catch (Exception e) {
+            log.warn("redemption batch 반영 실패, 건별 재시도 | size: {} | 원인: {}", records.size(), e.getMessage());
+        }
+
+        boolean allAcknowledged = true;
+        for (MapRecord<String, String, String> record : records) {
+            allAcknowledged &= processSingle(record);
+        }
+        return allAcknowledged;
+    }
+
+    private boolean processSingle(MapRecord<String, String, String> record) {
+        String messageId = record.getId().getValue();
+        try {
+            persistenceService.persistRedemptions(List.of(toRequest(record)));
+            acknowledge(record.getId());
+            retryCountMap.remove(messageId);
+            return true;
+        } catch (Exception e) {
+            int retryCount = retryCountMap.merge(messageId, 1, Integer::sum);
+            log.error("redemption 반영 실패 | messageId: {} | 시도: {} | 원인: {}", messageId, retryCount, e.getMessage());
+            if (retryCount < properties.getMaxRetry()) {
+                return false;
+            }
+            moveToDlq(record, e.getMessage());
+            acknowledge(record.getId());
+            retryCountMap.remove(messageId);
+            return true;
+        }
+    }
+
+    private void moveToDlq(MapRecord<String, String, String> record, String errorMessage) {
+        Map<String, String> dlqFields = new HashMap<>(record.getValue());
+        dlqFields.put("errorMessage", errorMessage != null ? errorMessage : "unknown");
+        dlqFields.put("failedAt", LocalDateTime.now().toString());
+        dlqFields.put("originalMessageId", record.getId().getValue());
+        redisStreamService.addToDlq(properties.getDlqKey(), dlqFields);
+        log.warn("[{}]: redemption DLQ 이동 | userId: {}", dlqFields.get("issuedCode"), dlqFields.get("userId"));
+    }
+
+    private void acknowledge(RecordId... recordIds) {
+        redisStreamService.acknowledge(redemptionProperties.getStreamKey(), properties.getGroupName(), recordIds);
+    }
+
+    private CouponRedemptionRequest toRequest(MapRecord<String, String, String> record) {
+        Map<String, String> fields = record.getValue();
+        return new CouponRedemptionRequest(
+                fields.get("issuedCode"),
+                Long.parseLong(fields.get("userId")),
+                fields.get("couponCode"),
+                LocalDateTime.parse(fields.get("usedAt"))
+        );
+    }
+}
@@ -2,7 +2,6 @@ package cloud.coupon.consumer;
 
 import cloud.coupon.consumer.config.ConsumerProperties;
 import cloud.coupon.domain.coupon.dto.response.TicketResponse;
-import cloud.coupon.domain.coupon.dto.response.TicketStatus;
 import cloud.coupon.domain.coupon.repository.CouponIssueRepository;
 import cloud.coupon.infra.redis.service.RedisStockService;
 import cloud.coupon.infra.redis.service.RedisStreamService;
@@ -42,8 +41,7 @@ public class DlqProcessor {
                     code, userId, ticketId);
             redisStockService.transitionToIssued(code, userId);
             TicketResponse response = TicketResponse.completed(ticketId, "DB에서 확인됨");
-            redisTicketService.saveTicket(ticketId, response);
-            redisTicketService.publishResult(ticketId, TicketStatus.COMPLETED);
+            redisTicketService.saveAndPublishResult(response, userId);
         } else {
             // 케이스 2-B: 확실한 미발급
             log.warn("[{}]: DLQ 이동 | userId: {} | ticketId: {} | 원인: {}",
@@ -51,8 +49,7 @@ public class DlqProcessor {
             redisStockService.rollbackInflight(code, userId);
 
             TicketResponse response = TicketResponse.failed(ticketId, errorMessage);
-            redisTicketService.saveTicket(ticketId, response);
-            redisTicketService.publishResult(ticketId, TicketStatus.FAILED);
+            redisTicketService.saveAndPublishResult(response, userId);
 
             Map<String, String> dlqFields = new HashMap<>(fields);
             dlqFields.put("errorMessage", errorMessage);
@@ -19,4 +19,6 @@ public class ConsumerProperties {
     private int maxRetry = 3;
     private long claimIdleTime = 60000;
     private long claimInterval = 30000;
+    // 배치 내 레코드 동시 처리 수 (1: 순차 처리)
+    private int workerConcurrency = 1;
 }
@@ -0,0 +1,21 @@
+package cloud.coupon.consumer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "coupon.redemption.consumer")
+public class RedemptionConsumerProperties {
+    private String groupName = "coupon-use-group";
+    private String consumerName = "redemption-consumer-default";
+    private String dlqKey = "coupon:use:dlq";
+    private int batchSize = 100;
+    private long blockTimeout = 2000;
+    private int maxRetry = 3;
+    private long claimIdleTime = 60000;  // 이 시간 이상 ACK 안 된 메시지는 XAUTOCLAIM으로 가져옴
+    private long claimInterval = 30000;
+}
@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# platform thread vs virtual thread 접수 처리량 비교 (같은 VU 단계를 두 모드로 반복)
+# virtual 모드에서는 -Djdk.tracePinnedThreads=short 출력으로 pinning 발생 여부를 함께 확인한다.
+set -e
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+INFLUX_URL="${INFLUX_URL:-http://localhost:8086/k6}"
+COMPOSE_FILE="${COMPOSE_FILE:-docker-compose.phase3.yml}"
+VIRTUAL_COMPOSE_FILE="${VIRTUAL_COMPOSE_FILE:-docker-compose.virtual.yml}"
+VU_STEPS="${VU_STEPS:-500 1000 2000}"
+STOCK="${STOCK:-1000000}"
+GAP="${GAP:-30}"
+
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+log_info() { echo -e "${GREEN}[INFO]${NC} $*"; }
+
+wait_gap() {
+    local label=$1
+    echo -e "${YELLOW}--- ${label} 완료. Grafana 구분을 위해 ${GAP}초 대기 ---${NC}"
+    for i in $(seq "${GAP}" -1 1); do
+        printf "\r  남은 시간: %2ds " "${i}"
+        sleep 1
+    done
+    echo ""
+}
+
+wait_healthy() {
+    for _ in $(seq 60); do
+        if curl -s "${BASE_URL}/actuator/health" | grep -q '"UP"'; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "ERROR: API 서버가 기동되지 않았습니다."
+    exit 1
+}
+
+restart_apps() {
+    docker-compose "$@" up -d --force-recreate coupon-api coupon-consumer
+    wait_healthy
+}
+
+run_mode() {
+    local mode=$1
+    for vus in ${VU_STEPS}; do
+        log_info "=== ${mode}: VU=${vus} ==="
+        k6 run \
+            --out "influxdb=${INFLUX_URL}" \
+            -e BASE_URL="${BASE_URL}" \
+            -e VUS="${vus}" \
+            -e STOCK="${STOCK}" \
+            -e COUPON_CODE="VT-${mode}-VU${vus}" \
+            k6/phase3-admission.js
+        wait_gap "${mode} VU=${vus}"
+    done
+}
+
+log_info "=== platform thread 모드 ==="
+restart_apps -f "${COMPOSE_FILE}"
+run_mode "PLATFORM"
+
+log_info "=== virtual thread 모드 ==="
+restart_apps -f "${COMPOSE_FILE}" -f "${VIRTUAL_COMPOSE_FILE}"
+run_mode "VIRTUAL"
+
+# tracePinnedThreads는 pinning된 스택마다 "<== monitors" 줄을 남긴다
+for service in coupon-api coupon-consumer; do
+    pinned=$(docker-compose -f "${COMPOSE_FILE}" -f "${VIRTUAL_COMPOSE_FILE}" logs "${service}" | grep -c "<== monitors" || true)
+    log_info "${service} pinning 스택 수: ${pinned}"
+done
+
+log_info "=== 비교 완료: Grafana에서 VT-PLATFORM-* / VT-VIRTUAL-* 구간의 p95, RPS를 비교하세요 ==="
@@ -0,0 +1,23 @@
+-- coupon_issue_history → request_time RANGE 파티션 테이블 전환 (1회, 점검 시간에 수동 실행)
+--
+-- 테이블 전체를 재작성하는 DDL이다. 운영 중 테이블이 크면 gh-ost / pt-online-schema-change로 같은 정의를 적용한다.
+-- 실행 순서:
+--   1. consumer의 coupon.history.partition-enabled=false 상태에서 이 스크립트 실행
+--   2. 세션 time_zone을 애플리케이션(request_time 기록 기준)과 맞춘 뒤 실행 — CURDATE() 경계가 앱과 같아야 한다
+--   3. 적용 확인 후 partition-enabled=true로 재배포 → HistoryRetentionScheduler가 p_future를 나눠 이후 파티션을 만든다
+--
+-- 파티션 키는 모든 unique key에 포함되어야 하므로 PK를 (id, request_time)으로 바꾼다.
+-- 기존 행은 내일 0시 이전 상한의 p_legacy에 들어가고, 보관 기간이 지나면 파티션째 제거된다.
+-- p_future는 비어 있어야 이후 REORGANIZE가 데이터 이동 없이 끝난다 (미래 시각 request_time 없음 가정).
+
+SET @legacy_upper = TO_SECONDS(CURDATE() + INTERVAL 1 DAY);
+SET @ddl = CONCAT(
+        'ALTER TABLE coupon_issue_history ',
+        'DROP PRIMARY KEY, ADD PRIMARY KEY (id, request_time) ',
+        'PARTITION BY RANGE (TO_SECONDS(request_time)) (',
+        'PARTITION p_legacy VALUES LESS THAN (', @legacy_upper, '), ',
+        'PARTITION p_future VALUES LESS THAN MAXVALUE)');
+
+PREPARE partition_stmt FROM @ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,9 @@
+-- coupon_issue.issued_code 인덱스 (1회, 수동 실행)
+--
+-- 코드 풀 적재 시 할당한 코드가 이미 발급된 코드(random generator 발급분)와 겹치는지
+-- issued_code IN (...)으로 확인한다. 인덱스가 없으면 적재 chunk마다 전체 스캔이 된다.
+-- InnoDB online DDL(ALGORITHM=INPLACE, LOCK=NONE)로 발급 트래픽을 막지 않는다.
+
+ALTER TABLE coupon_issue
+    ADD INDEX idx_coupon_issue_issued_code (issued_code),
+    ALGORITHM = INPLACE, LOCK = NONE;